@@ -0,0 +1,118 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the indexed {@link PlayerRegistry} with the previous copy-on-write set and linear lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 6)
+public class PlayerRegistryBenchmark {
+    @Param({"5000"})
+    public int playerCount;
+
+    private Player[] players;
+    private PlayerRegistry registry;
+    private Set<Player> copyOnWriteSet;
+    private Player extra;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.players = new Player[playerCount];
+        this.registry = new PlayerRegistry();
+        this.copyOnWriteSet = new CopyOnWriteArraySet<>();
+        for (int i = 0; i < playerCount; i++) {
+            final Player player = createPlayer("Player" + i);
+            this.players[i] = player;
+            this.registry.add(player);
+            this.copyOnWriteSet.add(player);
+        }
+        this.extra = createPlayer("Extra");
+    }
+
+    @Benchmark
+    public Player registryUsernameLookup() {
+        return registry.getByUsername(randomPlayer().getUsername());
+    }
+
+    @Benchmark
+    public Player linearUsernameLookup() {
+        final String username = randomPlayer().getUsername();
+        for (Player player : copyOnWriteSet) {
+            if (player.getUsername().equalsIgnoreCase(username)) return player;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Player registryUuidLookup() {
+        return registry.getByUuid(randomPlayer().getUuid());
+    }
+
+    @Benchmark
+    public Player linearUuidLookup() {
+        final UUID uuid = randomPlayer().getUuid();
+        for (Player player : copyOnWriteSet) {
+            if (player.getUuid().equals(uuid)) return player;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public void registryJoinQuit() {
+        registry.add(extra);
+        registry.remove(extra);
+    }
+
+    @Benchmark
+    public void copyOnWriteJoinQuit() {
+        copyOnWriteSet.add(extra);
+        copyOnWriteSet.remove(extra);
+    }
+
+    @Benchmark
+    public void registryIteration(Blackhole blackhole) {
+        registry.view().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void copyOnWriteIteration(Blackhole blackhole) {
+        copyOnWriteSet.forEach(blackhole::consume);
+    }
+
+    private Player randomPlayer() {
+        return players[ThreadLocalRandom.current().nextInt(playerCount)];
+    }
+
+    private static Player createPlayer(String username) {
+        return new Player(UUID.randomUUID(), username, new PlayerConnection() {
+            @Override
+            public void sendPacket(@NotNull SendablePacket packet) {
+            }
+
+            @Override
+            public @NotNull SocketAddress getRemoteAddress() {
+                return new InetSocketAddress("localhost", 25565);
+            }
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares flushing pending buffers one write call at a time against a single gathering write,
+ * over a loopback socket drained by a separate thread.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SocketFlushBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int bufferCount;
+
+    @Param({"1024", "32768"})
+    public int bufferSize;
+
+    private ServerSocketChannel server;
+    private SocketChannel channel;
+    private SocketChannel peer;
+    private Thread drainThread;
+
+    private BinaryBuffer[] buffers;
+    private ByteBuffer[] nioBuffers;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Syscalls {
+        public long writes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.writes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        this.server = ServerSocketChannel.open();
+        this.server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        this.channel = SocketChannel.open(server.getLocalAddress());
+        this.channel.configureBlocking(false);
+        this.channel.socket().setTcpNoDelay(true);
+        this.peer = server.accept();
+
+        this.drainThread = new Thread(() -> {
+            final ByteBuffer sink = ByteBuffer.allocateDirect(1 << 20);
+            try {
+                while (peer.read(sink.clear()) != -1) {
+                    // Discard
+                }
+            } catch (IOException e) {
+                // Closed
+            }
+        }, "benchmark-drain");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+
+        this.buffers = new BinaryBuffer[bufferCount];
+        this.nioBuffers = new ByteBuffer[bufferCount];
+        for (int i = 0; i < bufferCount; i++) {
+            BinaryBuffer buffer = BinaryBuffer.ofSize(bufferSize);
+            buffer.writeBytes(new byte[bufferSize]);
+            this.buffers[i] = buffer;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        this.channel.close();
+        this.peer.close();
+        this.server.close();
+        this.drainThread.join();
+    }
+
+    @Benchmark
+    public void sequential(Syscalls syscalls) throws IOException {
+        resetBuffers();
+        final BinaryBuffer[] buffers = this.buffers;
+        int index = 0;
+        while (index < buffers.length) {
+            syscalls.writes++;
+            if (buffers[index].writeChannel(channel)) index++;
+        }
+    }
+
+    @Benchmark
+    public void gathering(Syscalls syscalls) throws IOException {
+        resetBuffers();
+        final BinaryBuffer[] buffers = this.buffers;
+        int written;
+        do {
+            syscalls.writes++;
+            written = BinaryBuffer.writeChannel(channel, buffers, nioBuffers, buffers.length);
+        } while (written != buffers.length);
+    }
+
+    private void resetBuffers() {
+        for (BinaryBuffer buffer : buffers) buffer.reset(0, bufferSize);
+    }
+}
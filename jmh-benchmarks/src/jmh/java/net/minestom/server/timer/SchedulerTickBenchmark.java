@@ -15,19 +15,37 @@ public class SchedulerTickBenchmark {
     @Param({"0", "1", "5"})
     public int tickTasks;
 
-    Scheduler scheduler;
+    @Param({"tree", "wheel"})
+    public String implementation;
+
+    // Simulates one scheduler per entity, only one in a hundred having tasks
+    @Param({"1", "100000"})
+    public int schedulerCount;
+
+    @Param({"1", "100"})
+    public int taskInterval;
+
+    Scheduler[] schedulers;
 
     @Setup
     public void setup() {
-        this.scheduler = Scheduler.newScheduler();
-        for (int i = 0; i < this.tickTasks; i++) {
-            this.scheduler.scheduleTask(() -> {
-            }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+        this.schedulers = new Scheduler[schedulerCount];
+        for (int i = 0; i < schedulerCount; i++) {
+            final Scheduler scheduler = implementation.equals("wheel") ?
+                    new TimingWheelScheduler() : new SchedulerImpl();
+            this.schedulers[i] = scheduler;
+            if (schedulerCount > 1 && i % 100 != 0) continue;
+            for (int j = 0; j < this.tickTasks; j++) {
+                scheduler.scheduleTask(() -> {
+                }, TaskSchedule.tick(1 + (i + j) % taskInterval), TaskSchedule.tick(taskInterval));
+            }
         }
     }
 
     @Benchmark
     public void call() {
-        this.scheduler.processTick();
+        for (Scheduler scheduler : schedulers) {
+            scheduler.processTick();
+        }
     }
 }
@@ -12,6 +12,7 @@ import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.item.armor.TrimManager;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
@@ -52,6 +53,7 @@ public final class MinecraftServer {
 
     public static final String THREAD_NAME_TICK_SCHEDULER = "Ms-TickScheduler";
     public static final String THREAD_NAME_TICK = "Ms-Tick";
+    public static final String THREAD_NAME_WATCHDOG = "Ms-Watchdog";
 
     // Config
     // Can be modified at performance cost when increased
@@ -170,6 +172,15 @@ public final class MinecraftServer {
         return serverProcess.benchmark();
     }
 
+    /**
+     * Gets the profiler recording the duration of each tick phase.
+     *
+     * @return the tick profiler
+     */
+    public static @NotNull TickProfiler getTickProfiler() {
+        return serverProcess.profiler();
+    }
+
     public static @NotNull ExceptionManager getExceptionManager() {
         return serverProcess.exception();
     }
@@ -15,18 +15,57 @@ public final class ServerFlag {
     public static final int SERVER_TICKS_PER_SECOND = Integer.getInteger("minestom.tps", 20);
     public static final int CHUNK_VIEW_DISTANCE = Integer.getInteger("minestom.chunk-view-distance", 8);
     public static final int ENTITY_VIEW_DISTANCE = Integer.getInteger("minestom.entity-view-distance", 5);
+    public static final @NotNull String TICK_OVERLOAD_POLICY = System.getProperty("minestom.tick-overload-policy", "catch_up"); // catch_up, skip or stretch
+    public static final int TICK_MAX_CATCH_UP = Integer.getInteger("minestom.tick-max-catch-up", 10); // ticks
+    public static final int TICK_SPIN_DURATION = Integer.getInteger("minestom.tick-spin-duration", 200); // µs
     public static final int WORKER_COUNT = Integer.getInteger("minestom.workers", Runtime.getRuntime().availableProcessors());
+    public static final int DISPATCHER_THREADS = Integer.getInteger("minestom.dispatcher-threads", 1);
+    public static final int DISPATCHER_REGION_SIZE = Integer.getInteger("minestom.dispatcher-region-size", 0); // chunks, 0 to balance chunks individually
+    public static final int ACCEPTOR_COUNT = Integer.getInteger("minestom.acceptors", 1);
     public static final int MAX_PACKET_SIZE = Integer.getInteger("minestom.max-packet-size", 2_097_151); // 3 bytes var-int
     public static final int SOCKET_SEND_BUFFER_SIZE = Integer.getInteger("minestom.send-buffer-size", 262_143);
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = Integer.getInteger("minestom.receive-buffer-size", 32_767);
     public static final int POOLED_BUFFER_SIZE = Integer.getInteger("minestom.pooled-buffer-size", 262_143);
     public static final int PLAYER_PACKET_PER_TICK = Integer.getInteger("minestom.packet-per-tick", 20);
     public static final int PLAYER_PACKET_QUEUE_SIZE = Integer.getInteger("minestom.packet-queue-size", 1000);
+    public static final int OUTBOUND_SOFT_LIMIT = Integer.getInteger("minestom.outbound-soft-limit", 4_194_304);
+    public static final int OUTBOUND_HARD_LIMIT = Integer.getInteger("minestom.outbound-hard-limit", 33_554_432);
+    public static final int LATENCY_UPDATE_INTERVAL = Integer.getInteger("minestom.latency-update-interval", 2_000); // ms, 0 to disable batching
+    public static final int LATENCY_UPDATE_THRESHOLD = Integer.getInteger("minestom.latency-update-threshold", 5); // ms
+
+    // Entity activation
+    public static final int ACTIVATION_RANGE = Integer.getInteger("minestom.activation-range", 0); // blocks, 0 to keep entities always active
+    public static final int ACTIVATION_INACTIVE_TICK_INTERVAL = Integer.getInteger("minestom.activation-inactive-tick-interval", 20); // ticks
+
+    // Executors
+    public static final int GENERATION_THREADS = Integer.getInteger("minestom.generation-threads", Runtime.getRuntime().availableProcessors());
+    public static final int IO_THREADS = Integer.getInteger("minestom.io-threads", 4);
+    public static final int LIGHTING_THREADS = Integer.getInteger("minestom.lighting-threads", Runtime.getRuntime().availableProcessors());
+    public static final int ASYNC_THREADS = Integer.getInteger("minestom.async-threads", Runtime.getRuntime().availableProcessors());
+    public static final int LOGIN_THREADS = Integer.getInteger("minestom.login-threads", Math.max(4, Runtime.getRuntime().availableProcessors()));
+    public static final int EXECUTOR_QUEUE_SIZE = Integer.getInteger("minestom.executor-queue-size", 16_384);
+    public static final @NotNull String EXECUTOR_REJECTION_POLICY = System.getProperty("minestom.executor-rejection-policy", "caller_runs"); // caller_runs, block or abort
 
     // Packet sending optimizations
     public static final boolean GROUPED_PACKET = PropertyUtils.getBoolean("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = PropertyUtils.getBoolean("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = PropertyUtils.getBoolean("minestom.viewable-packet", true);
+    public static final boolean GATHERING_WRITE = PropertyUtils.getBoolean("minestom.gathering-write", true);
+    public static final boolean BLOCK_CHANGE_BATCHING = PropertyUtils.getBoolean("minestom.block-change-batching", true);
+    public static final int BLOCK_CHANGE_RESEND_THRESHOLD = Integer.getInteger("minestom.block-change-resend-threshold", 4096); // changes per chunk
+
+    // Compression
+    public static final int COMPRESSION_LEVEL = Integer.getInteger("minestom.compression-level", 1); // Deflater.BEST_SPEED
+    public static final int CACHED_COMPRESSION_LEVEL = Integer.getInteger("minestom.cached-compression-level", 9); // Deflater.BEST_COMPRESSION
+    public static final int COMPRESSION_OFFLOAD_THRESHOLD = Integer.getInteger("minestom.compression-offload-threshold", 65_536);
+    public static final int COMPRESSION_THREADS = Integer.getInteger("minestom.compression-threads", 2);
+    public static final int COMPRESSION_QUEUE_SIZE = Integer.getInteger("minestom.compression-queue-size", 256);
+
+    // Monitoring
+    public static final int PROFILER_HISTORY = Integer.getInteger("minestom.profiler-history", 1200); // ticks
+    public static final int PROFILER_SAMPLE_INTERVAL = Integer.getInteger("minestom.profiler-sample-interval", 20); // ticks, 0 to disable element timings
+    public static final long WATCHDOG_THRESHOLD = Long.getLong("minestom.watchdog-threshold", 2000); // ms, 0 to disable
+    public static final long WATCHDOG_DUMP_THRESHOLD = Long.getLong("minestom.watchdog-dump-threshold", 10000); // ms, 0 to disable
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = PropertyUtils.getBoolean("minestom.tag-handler-cache", true);
@@ -38,6 +77,8 @@ public final class ServerFlag {
     // World
     public static final @Nullable String STACKING_RULE = System.getProperty("minestom.stacking-rule");
     public static final int WORLD_BORDER_SIZE = Integer.getInteger("minestom.world-border-size", 29999984);
+    public static final int CHUNK_UNLOAD_DELAY = Integer.getInteger("minestom.chunk-unload-delay", -1); // ticks, negative to keep chunks loaded
+    public static final int CHUNK_UNLOAD_BUDGET = Integer.getInteger("minestom.chunk-unload-budget", 8); // chunks per tick
 
     // Maps
     public static final @NotNull String MAP_RGB_MAPPING = System.getProperty("minestom.map.rgbmapping", "lazy");
@@ -45,6 +86,7 @@ public final class ServerFlag {
 
     // Experimental/Unstable
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = Boolean.getBoolean("minestom.event.multiple-parents");
+    public static final boolean TIMING_WHEEL_SCHEDULER = Boolean.getBoolean("minestom.timing-wheel-scheduler");
 
     private ServerFlag() {}
 
@@ -13,6 +13,7 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.item.armor.TrimManager;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -20,6 +21,7 @@ import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.Snapshotable;
 import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.TickPacer;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.world.DimensionTypeManager;
 import net.minestom.server.world.biomes.BiomeManager;
@@ -76,6 +78,18 @@ public interface ServerProcess extends Snapshotable {
 
     @NotNull BenchmarkManager benchmark();
 
+    /**
+     * Records the duration of each tick phase.
+     */
+    @ApiStatus.Experimental
+    @NotNull TickProfiler profiler();
+
+    /**
+     * Paces the server ticks, see {@link ServerFlag#TICK_OVERLOAD_POLICY}.
+     */
+    @ApiStatus.Experimental
+    @NotNull TickPacer pacer();
+
     /**
      * Handles registered dimensions.
      */
@@ -18,6 +18,8 @@ import net.minestom.server.item.armor.TrimManager;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickProfile;
+import net.minestom.server.monitoring.TickProfiler;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -25,7 +27,11 @@ import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.*;
 import net.minestom.server.thread.Acquirable;
+import net.minestom.server.thread.RegionThreadProvider;
 import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.ThreadProvider;
+import net.minestom.server.thread.TickPacer;
+import net.minestom.server.thread.TickWatchdog;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.PropertyUtils;
@@ -40,6 +46,7 @@ import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -59,6 +66,8 @@ final class ServerProcessImpl implements ServerProcess {
     private final GlobalEventHandler eventHandler;
     private final SchedulerManager scheduler;
     private final BenchmarkManager benchmark;
+    private final TickProfiler profiler;
+    private final TickPacer pacer;
     private final DimensionTypeManager dimension;
     private final BiomeManager biome;
     private final AdvancementManager advancement;
@@ -69,6 +78,7 @@ final class ServerProcessImpl implements ServerProcess {
 
     private final ThreadDispatcher<Chunk> dispatcher;
     private final Ticker ticker;
+    private final TickWatchdog watchdog;
 
     private final AtomicBoolean started = new AtomicBoolean();
     private final AtomicBoolean stopped = new AtomicBoolean();
@@ -86,6 +96,8 @@ final class ServerProcessImpl implements ServerProcess {
         this.eventHandler = new GlobalEventHandler();
         this.scheduler = new SchedulerManager();
         this.benchmark = new BenchmarkManager();
+        this.profiler = new TickProfiler();
+        this.pacer = new TickPacer();
         this.dimension = new DimensionTypeManager();
         this.biome = new BiomeManager();
         this.advancement = new AdvancementManager();
@@ -94,8 +106,9 @@ final class ServerProcessImpl implements ServerProcess {
         this.trim = new TrimManager();
         this.server = new Server(packetProcessor);
 
-        this.dispatcher = ThreadDispatcher.singleThread();
+        this.dispatcher = createDispatcher();
         this.ticker = new TickerImpl();
+        this.watchdog = ServerFlag.WATCHDOG_THRESHOLD > 0 ? new TickWatchdog(dispatcher) : null;
     }
 
     @Override
@@ -143,6 +156,16 @@ final class ServerProcessImpl implements ServerProcess {
         return benchmark;
     }
 
+    @Override
+    public @NotNull TickProfiler profiler() {
+        return profiler;
+    }
+
+    @Override
+    public @NotNull TickPacer pacer() {
+        return pacer;
+    }
+
     @Override
     public @NotNull DimensionTypeManager dimension() {
         return dimension;
@@ -193,6 +216,14 @@ final class ServerProcessImpl implements ServerProcess {
         return server;
     }
 
+    private static ThreadDispatcher<Chunk> createDispatcher() {
+        final int threadCount = ServerFlag.DISPATCHER_THREADS;
+        if (threadCount <= 1) return ThreadDispatcher.singleThread();
+        final ThreadProvider<Chunk> provider = ServerFlag.DISPATCHER_REGION_SIZE > 0 ?
+                new RegionThreadProvider(ServerFlag.DISPATCHER_REGION_SIZE) : ThreadProvider.balanced();
+        return ThreadDispatcher.of(provider, threadCount);
+    }
+
     @Override
     public @NotNull ThreadDispatcher<Chunk> dispatcher() {
         return dispatcher;
@@ -221,6 +252,7 @@ final class ServerProcessImpl implements ServerProcess {
 
         // Start server
         server.start();
+        if (watchdog != null) watchdog.start();
 
         LOGGER.info(MinecraftServer.getBrandName() + " server started successfully.");
 
@@ -237,6 +269,7 @@ final class ServerProcessImpl implements ServerProcess {
         connection.shutdown();
         server.stop();
         LOGGER.info("Shutting down all thread pools.");
+        if (watchdog != null) watchdog.shutdown();
         benchmark.disable();
         dispatcher.shutdown();
         LOGGER.info(MinecraftServer.getBrandName() + " server stopped successfully.");
@@ -264,26 +297,35 @@ final class ServerProcessImpl implements ServerProcess {
         @Override
         public void tick(long nanoTime) {
             final long msTime = System.currentTimeMillis();
+            final TickProfiler profiler = profiler();
+            profiler.startTick(nanoTime);
+            if (watchdog != null) watchdog.tickStart(nanoTime);
 
             scheduler().processTick();
+            profiler.endPhase(TickProfiler.Phase.SCHEDULER);
 
             // Connection tick (let waiting clients in, send keep alives, handle configuration players packets)
             connection().tick(msTime);
+            profiler.endPhase(TickProfiler.Phase.CONNECTION);
 
             // Server tick (chunks/entities)
             serverTick(msTime);
 
             // Flush all waiting packets
             PacketUtils.flush();
+            profiler.endPhase(TickProfiler.Phase.VIEWABLE_FLUSH);
 
             // Server connection tick
             server().tick();
+            profiler.endPhase(TickProfiler.Phase.WORKER_WAKEUP);
+            if (watchdog != null) watchdog.tickEnd();
 
             // Monitoring
             {
+                final TickProfile profile = profiler.endTick(dispatcher().threads());
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs, Acquirable.resetAcquiringHistogram(), profile);
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
             }
         }
@@ -292,17 +334,23 @@ final class ServerProcessImpl implements ServerProcess {
             // Tick all instances
             for (Instance instance : instance().getInstances()) {
                 try {
-                    instance.tick(tickStart);
+                    final int ticks = instance.prepareTick();
+                    for (int i = 0; i < ticks; i++) instance.tick(tickStart);
                 } catch (Exception e) {
                     exception().handleException(e);
                 }
             }
+            profiler().endPhase(TickProfiler.Phase.INSTANCES);
+
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
+            profiler().endPhase(TickProfiler.Phase.PARTITIONS);
 
             // Clear removed entities & update threads
+            // Use the remaining tick budget
             final long tickTime = System.currentTimeMillis() - tickStart;
-            dispatcher().refreshThreads(tickTime);
+            dispatcher().refreshThreads(TimeUnit.MILLISECONDS.toNanos(Math.max(MinecraftServer.TICK_MS - tickTime, 1)));
+            profiler().endPhase(TickProfiler.Phase.THREAD_REFRESH);
         }
     }
 }
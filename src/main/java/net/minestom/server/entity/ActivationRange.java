@@ -0,0 +1,113 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distance to the closest player under which an {@link Entity} is fully ticked.
+ * <p>
+ * Entities further away only process their scheduled tasks, and are fully ticked
+ * once every {@code inactiveTickInterval} ticks (never if 0). They are activated again
+ * when a player comes in range, when they take damage or when their velocity changes.
+ * <p>
+ * Ranges can be defined per {@link EntityType} with {@link #set(EntityType, ActivationRange)},
+ * or per entity with {@link Entity#setActivationRange(ActivationRange)}.
+ * Players are always active.
+ *
+ * @param range                the activation range in blocks
+ * @param inactiveTickInterval the number of ticks between two full ticks of an inactive entity, 0 to never tick it
+ */
+@ApiStatus.Experimental
+public record ActivationRange(double range, int inactiveTickInterval) {
+    /**
+     * Number of ticks between two activations from a player.
+     */
+    static final int CHECK_INTERVAL = 4;
+    // Activations last until the next check, with some margin
+    private static final long ACTIVATION_DURATION = 2L * CHECK_INTERVAL * MinecraftServer.TICK_MS;
+
+    private static final Map<EntityType, ActivationRange> TYPE_RANGES = new ConcurrentHashMap<>();
+    private static volatile @Nullable ActivationRange defaultRange = ServerFlag.ACTIVATION_RANGE > 0 ?
+            new ActivationRange(ServerFlag.ACTIVATION_RANGE, ServerFlag.ACTIVATION_INACTIVE_TICK_INTERVAL) : null;
+    // Highest configured range, used to query the entities around players
+    private static volatile double maxRange = defaultRange != null ? defaultRange.range() : 0;
+
+    public ActivationRange {
+        if (range <= 0) throw new IllegalArgumentException("Range must be positive");
+        if (inactiveTickInterval < 0) throw new IllegalArgumentException("Inactive tick interval cannot be negative");
+    }
+
+    /**
+     * Gets the activation range of an entity type.
+     *
+     * @param entityType the entity type
+     * @return the activation range of the type, null if always active
+     */
+    public static @Nullable ActivationRange get(@NotNull EntityType entityType) {
+        final ActivationRange range = TYPE_RANGES.get(entityType);
+        return range != null ? range : defaultRange;
+    }
+
+    /**
+     * Sets the activation range of an entity type, overriding the default one.
+     *
+     * @param entityType the entity type
+     * @param range      the activation range, null to use the default range
+     */
+    public static void set(@NotNull EntityType entityType, @Nullable ActivationRange range) {
+        if (range != null) {
+            TYPE_RANGES.put(entityType, range);
+            track(range);
+        } else {
+            TYPE_RANGES.remove(entityType);
+        }
+    }
+
+    /**
+     * Sets the activation range of the entity types without a specific range.
+     * <p>
+     * Defaults to {@link ServerFlag#ACTIVATION_RANGE}.
+     *
+     * @param range the default activation range, null to keep the entities always active
+     */
+    public static void setDefault(@Nullable ActivationRange range) {
+        defaultRange = range;
+        if (range != null) track(range);
+    }
+
+    static void track(@NotNull ActivationRange range) {
+        synchronized (TYPE_RANGES) {
+            if (range.range() > maxRange) maxRange = range.range();
+        }
+    }
+
+    /**
+     * Activates the entities in range of a player.
+     *
+     * @param player the player
+     * @param time   the tick time in milliseconds
+     */
+    static void activateAround(@NotNull Player player, long time) {
+        final double maxRange = ActivationRange.maxRange;
+        final Instance instance = player.getInstance();
+        if (maxRange <= 0 || instance == null) return;
+        final Pos position = player.getPosition();
+        final long activeUntil = time + ACTIVATION_DURATION;
+        instance.getEntityTracker().nearbyEntities(position, maxRange, EntityTracker.Target.ENTITIES, entity -> {
+            final ActivationRange range = entity.getActivationRange();
+            if (range == null) return;
+            if (entity.getPosition().distanceSquared(position) <= range.range() * range.range()) {
+                entity.activate(activeUntil);
+            }
+        });
+    }
+}
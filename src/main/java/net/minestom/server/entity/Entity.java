@@ -6,6 +6,7 @@ import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.event.HoverEvent.ShowEntity;
 import net.kyori.adventure.text.event.HoverEventSource;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.ServerProcess;
 import net.minestom.server.Tickable;
 import net.minestom.server.Viewable;
@@ -31,8 +32,8 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.DirectPacketEncoder;
 import net.minestom.server.network.packet.server.LazyPacket;
-import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.permission.Permission;
 import net.minestom.server.permission.PermissionHandler;
@@ -50,6 +51,7 @@ import net.minestom.server.timer.Schedulable;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
 import net.minestom.server.utils.ArrayUtils;
+import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.block.BlockIterator;
@@ -66,6 +68,7 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 import space.vectrix.flare.fastutil.Int2ObjectSyncMap;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
 import java.util.*;
@@ -178,6 +181,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     // Tick related
     private long ticks;
 
+    // Activation range, per entity type unless overridden
+    private ActivationRange activationRange;
+    private boolean customActivationRange;
+    private volatile long activeUntil;
+    private int inactiveTicks;
+
     private final Acquirable<Entity> acquirable = Acquirable.of(this);
 
     public Entity(@NotNull EntityType entityType, @NotNull UUID uuid) {
@@ -545,11 +554,25 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public void tick(long time) {
         if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk))
             return;
+        // Follow the instance tick policy, players process their packets every tick
+        final int ticks = this instanceof Player ? 1 : instance.getScheduledTicks();
+        for (int i = 0; i < ticks; i++) {
+            tickOnce(time);
+            if (instance == null || isRemoved()) return;
+        }
+    }
 
+    private void tickOnce(long time) {
         // scheduled tasks
         this.scheduler.processTick();
         if (isRemoved()) return;
 
+        if (!isActivated(time)) {
+            // Far from players, only tick at a reduced rate
+            final int interval = getActivationRange().inactiveTickInterval();
+            if (interval == 0 || ++inactiveTicks % interval != 0) return;
+        }
+
         // Entity tick
         {
             // Cache the number of "gravity tick"
@@ -573,6 +596,56 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
     }
 
+    /**
+     * Gets the activation range of this entity.
+     *
+     * @return the activation range, null if always active
+     * @see ActivationRange
+     */
+    public @Nullable ActivationRange getActivationRange() {
+        if (customActivationRange) return activationRange;
+        if (this instanceof Player) return null;
+        return ActivationRange.get(entityType);
+    }
+
+    /**
+     * Overrides the activation range of the entity type.
+     *
+     * @param activationRange the activation range, null to keep the entity always active
+     */
+    public void setActivationRange(@Nullable ActivationRange activationRange) {
+        this.activationRange = activationRange;
+        this.customActivationRange = true;
+        if (activationRange != null) ActivationRange.track(activationRange);
+    }
+
+    /**
+     * Gets if this entity is fully ticked, because it is close to a player, moving,
+     * or has recently been woken up.
+     *
+     * @return true if the entity is active
+     */
+    public boolean isActivated() {
+        return isActivated(System.currentTimeMillis());
+    }
+
+    /**
+     * Activates the entity for a few ticks, as if a player was nearby.
+     */
+    public void wakeUp() {
+        activate(System.currentTimeMillis() + (long) ActivationRange.CHECK_INTERVAL * MinecraftServer.TICK_MS);
+    }
+
+    void activate(long activeUntil) {
+        if (activeUntil > this.activeUntil) this.activeUntil = activeUntil;
+    }
+
+    private boolean isActivated(long time) {
+        if (activeUntil >= time || getActivationRange() == null) return true;
+        // Keep moving entities active, they would otherwise stop mid-air
+        return hasVelocity() || (!onGround && !hasNoGravity());
+    }
+
     private void velocityTick() {
         this.gravityTickCount = onGround ? 0 : gravityTickCount + 1;
         if (vehicle != null) return;
@@ -620,7 +693,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
                 );
                 if (this.ticks % VELOCITY_UPDATE_INTERVAL == 0) {
                     if (!isPlayer && !this.lastVelocityWasZero) {
-                        sendPacketToViewers(getVelocityPacket());
+                        sendVelocityToViewers();
                         this.lastVelocityWasZero = !hasVelocity;
                     }
                 }
@@ -653,7 +726,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         // Verify if velocity packet has to be sent
         if (this.ticks % VELOCITY_UPDATE_INTERVAL == 0) {
             if (!isPlayer && (hasVelocity || !lastVelocityWasZero)) {
-                sendPacketToViewers(getVelocityPacket());
+                sendVelocityToViewers();
                 this.lastVelocityWasZero = !hasVelocity;
             }
         }
@@ -881,6 +954,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (previousInstance != null) removeFromInstance(previousInstance);
 
         this.isActive = true;
+        wakeUp();
         this.position = spawnPosition;
         this.previousPosition = spawnPosition;
         this.instance = instance;
@@ -943,6 +1017,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public void setVelocity(@NotNull Vec velocity) {
         EntityVelocityEvent entityVelocityEvent = new EntityVelocityEvent(this, velocity);
         EventDispatcher.callCancellable(entityVelocityEvent, () -> {
+            wakeUp();
             this.velocity = entityVelocityEvent.getVelocity();
             sendPacketToViewersAndSelf(getVelocityPacket());
         });
@@ -1331,22 +1406,19 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
         final Chunk chunk = getChunk();
         if (distanceX > 8 || distanceY > 8 || distanceZ > 8) {
-            PacketUtils.prepareViewablePacket(chunk, new EntityTeleportPacket(getEntityId(), position, isOnGround()), this);
+            sendTeleportToViewers(chunk, position, isOnGround());
             this.lastAbsoluteSynchronizationTime = System.currentTimeMillis();
         } else if (positionChange && viewChange) {
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            sendRelativeMoveToViewers(chunk, position, lastSyncedPosition, isOnGround());
             // Fix head rotation
-            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
+            sendHeadLookToViewers(chunk, position.yaw());
         } else if (positionChange) {
             // This is a confusing fix for a confusing issue. If rotation is only sent when the entity actually changes, then spawning an entity
             // on the ground causes the entity not to update its rotation correctly. It works fine if the entity is spawned in the air. Very weird.
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, onGround), this);
+            sendRelativeMoveToViewers(chunk, position, lastSyncedPosition, onGround);
         } else if (viewChange) {
-            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            sendHeadLookToViewers(chunk, position.yaw());
+            sendRelativeMoveToViewers(chunk, position, lastSyncedPosition, isOnGround());
         }
         this.lastSyncedPosition = position;
     }
@@ -1629,12 +1701,71 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     @ApiStatus.Internal
     protected void synchronizePosition(boolean includeSelf) {
         final Pos posCache = this.position;
-        final ServerPacket packet = new EntityTeleportPacket(getEntityId(), posCache, isOnGround());
-        PacketUtils.prepareViewablePacket(currentChunk, packet, this);
+        sendTeleportToViewers(currentChunk, posCache, isOnGround());
         this.lastAbsoluteSynchronizationTime = System.currentTimeMillis();
         this.lastSyncedPosition = posCache;
     }
 
+    /**
+     * Gets if the movement packets can be encoded directly into the viewable packets,
+     * without allocating the packet records.
+     */
+    private boolean directViewablePackets() {
+        return ServerFlag.VIEWABLE_PACKET && hasPredictableViewers();
+    }
+
+    private void sendTeleportToViewers(@NotNull Chunk chunk, @NotNull Pos position, boolean onGround) {
+        if (!directViewablePackets()) {
+            PacketUtils.prepareViewablePacket(chunk, new EntityTeleportPacket(getEntityId(), position, onGround), this);
+            return;
+        }
+        final ByteBuffer buffer = DirectPacketEncoder.scratch();
+        DirectPacketEncoder.writeEntityTeleport(buffer, getEntityId(), position.x(), position.y(), position.z(),
+                position.yaw(), position.pitch(), onGround);
+        PacketUtils.prepareViewablePacket(chunk, buffer.flip(), this);
+    }
+
+    // Relative movement is dropped for far viewers when congested, the periodic teleport synchronizes it back
+    private void sendRelativeMoveToViewers(@NotNull Chunk chunk, @NotNull Pos position, @NotNull Pos lastPosition, boolean onGround) {
+        if (!directViewablePackets()) {
+            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastPosition, onGround), this);
+            return;
+        }
+        final ByteBuffer buffer = DirectPacketEncoder.scratch();
+        DirectPacketEncoder.writeEntityPositionAndRotation(buffer, getEntityId(),
+                DirectPacketEncoder.delta(position.x(), lastPosition.x()),
+                DirectPacketEncoder.delta(position.y(), lastPosition.y()),
+                DirectPacketEncoder.delta(position.z(), lastPosition.z()),
+                position.yaw(), position.pitch(), onGround);
+        PacketUtils.prepareLowPriorityPacket(chunk, buffer.flip(), this);
+    }
+
+    private void sendHeadLookToViewers(@NotNull Chunk chunk, float yaw) {
+        if (!directViewablePackets()) {
+            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), yaw), this);
+            return;
+        }
+        final ByteBuffer buffer = DirectPacketEncoder.scratch();
+        DirectPacketEncoder.writeEntityHeadLook(buffer, getEntityId(), yaw);
+        PacketUtils.prepareLowPriorityPacket(chunk, buffer.flip(), this);
+    }
+
+    private void sendVelocityToViewers() {
+        final Chunk chunk = this.currentChunk;
+        if (chunk == null || !directViewablePackets()) {
+            sendPacketToViewers(getVelocityPacket());
+            return;
+        }
+        final Vec velocity = getVelocityForPacket();
+        final ByteBuffer buffer = DirectPacketEncoder.scratch();
+        DirectPacketEncoder.writeEntityVelocity(buffer, getEntityId(),
+                (short) MathUtils.clamp(velocity.x(), Short.MIN_VALUE, Short.MAX_VALUE),
+                (short) MathUtils.clamp(velocity.y(), Short.MIN_VALUE, Short.MAX_VALUE),
+                (short) MathUtils.clamp(velocity.z(), Short.MIN_VALUE, Short.MAX_VALUE));
+        PacketUtils.prepareLowPriorityPacket(chunk, buffer.flip(), this);
+    }
+
     private void synchronizeView() {
         sendPacketToViewersAndSelf(new EntityHeadLookPacket(getEntityId(), position.yaw()));
         sendPacketToViewersAndSelf(new EntityRotationPacket(getEntityId(), position.yaw(), position.pitch(), onGround));
@@ -330,6 +330,7 @@ public class LivingEntity extends Entity implements EquipmentHandler {
 
         EntityDamageEvent entityDamageEvent = new EntityDamageEvent(this, damage, damage.getSound(this));
         EventDispatcher.callCancellable(entityDamageEvent, () -> {
+            wakeUp();
             // Set the last damage type since the event is not cancelled
             this.lastDamage = entityDamageEvent.getDamage();
 
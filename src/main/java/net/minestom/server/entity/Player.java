@@ -78,6 +78,7 @@ import net.minestom.server.snapshot.PlayerSnapshot;
 import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.statistic.PlayerStatistic;
+import net.minestom.server.thread.TickThread;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.PacketUtils;
@@ -130,6 +131,8 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
 
     private long lastKeepAlive;
     private boolean answerKeepAlive;
+    // Last tick thread given to the worker assignment, null to reassign on the next tick
+    private TickThread workerTickThread;
 
     private String username;
     private Component usernameComponent;
@@ -342,7 +345,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         // Recipes start
         {
             RecipeManager recipeManager = MinecraftServer.getRecipeManager();
-            sendPacket(recipeManager.getDeclareRecipesPacket());
+            sendPacket(recipeManager.getDeclareRecipesCachedPacket());
 
             List<String> recipesIdentifier = new ArrayList<>();
             for (Recipe recipe : recipeManager.getRecipes()) {
@@ -408,6 +411,18 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         // Send any available queued chunks
         sendPendingChunks();
 
+        // Wake up the entities around, spread across ticks
+        if ((getAliveTicks() + getEntityId()) % ActivationRange.CHECK_INTERVAL == 0) {
+            ActivationRange.activateAround(this, time);
+        }
+
+        // Let the worker assignment move the connection when the tick thread is known or changed
+        final TickThread tickThread = TickThread.current();
+        if (tickThread != workerTickThread && tickThread != null && playerConnection instanceof PlayerSocketConnection) {
+            this.workerTickThread = tickThread;
+            MinecraftServer.getServer().reassignWorker(this, tickThread);
+        }
+
         super.update(time); // Super update (item pickup/fire management)
 
         // Experience orb pickup
@@ -754,6 +769,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             sendPacket(new ChangeGameStatePacket(ChangeGameStatePacket.Reason.LEVEL_CHUNKS_LOAD_START, 0));
         }
 
+        this.workerTickThread = null;
         EventDispatcher.call(new PlayerSpawnEvent(this, instance, firstSpawn));
     }
 
@@ -1261,8 +1277,10 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * @param username the new player name
      */
     public void setUsernameField(@NotNull String username) {
+        final String previousUsername = this.username;
         this.username = username;
         this.usernameComponent = Component.text(username);
+        MinecraftServer.getConnectionManager().updatePlayerUsername(this, previousUsername);
     }
 
     /**
@@ -2072,13 +2090,15 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
 
     /**
      * Changes the storage player latency and update its tab value.
+     * <p>
+     * The tab list update is batched with the other players, see {@link ServerFlag#LATENCY_UPDATE_INTERVAL}.
      *
      * @param latency the new player latency
      */
     public void refreshLatency(int latency) {
         this.latency = latency;
         if (getPlayerConnection().getConnectionState() == ConnectionState.PLAY) {
-            PacketUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY, infoEntry()));
+            MinecraftServer.getConnectionManager().getLatencyAggregator().update(this, latency);
         }
     }
 
@@ -2337,9 +2357,11 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
 
     @Override
     public void setUuid(@NotNull UUID uuid) {
+        final UUID previousUuid = getUuid();
         super.setUuid(uuid);
         // update identity
         this.identity = Identity.identity(uuid);
+        MinecraftServer.getConnectionManager().updatePlayerUuid(this, previousUuid);
     }
 
     @Override
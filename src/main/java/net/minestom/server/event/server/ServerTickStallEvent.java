@@ -0,0 +1,23 @@
+package net.minestom.server.event.server;
+
+import net.minestom.server.event.Event;
+import net.minestom.server.monitoring.TickStallReport;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called from the watchdog thread when a server tick takes longer than
+ * {@link net.minestom.server.ServerFlag#WATCHDOG_THRESHOLD}.
+ * <p>
+ * Listeners must not wait for the stalled tick.
+ */
+public final class ServerTickStallEvent implements Event {
+    private final TickStallReport report;
+
+    public ServerTickStallEvent(@NotNull TickStallReport report) {
+        this.report = report;
+    }
+
+    public @NotNull TickStallReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,149 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects the block changes of a chunk during a tick, to send them once per section
+ * in a {@link MultiBlockChangePacket} when {@link #flush()} is called.
+ * <p>
+ * Only the last change of each block is sent. Chunks with more than {@link ServerFlag#BLOCK_CHANGE_RESEND_THRESHOLD}
+ * changes are sent again entirely instead.
+ */
+@ApiStatus.Internal
+public final class BlockChangeAccumulator {
+    private static final Queue<BlockChangeAccumulator> DIRTY = new ConcurrentLinkedQueue<>();
+
+    private final Chunk chunk;
+    // Keeps the batches ordered when sent from different threads
+    private final Object sendLock = new Object();
+
+    // Guarded by this, lazily created
+    // Section Y -> (packed section position -> block state)
+    private Int2ObjectMap<Short2IntMap> sections;
+    // Chunk block index -> block entity
+    private Int2ObjectMap<Block> blockEntities;
+    private int count;
+    private boolean dirty;
+
+    BlockChangeAccumulator(@NotNull Chunk chunk) {
+        this.chunk = chunk;
+    }
+
+    /**
+     * Sends the block changes of all the chunks collected since the last flush.
+     */
+    public static void flush() {
+        BlockChangeAccumulator accumulator;
+        while ((accumulator = DIRTY.poll()) != null) {
+            accumulator.send();
+        }
+    }
+
+    /**
+     * Sends the block changes of this chunk now, without waiting for {@link #flush()}.
+     * <p>
+     * Used before acknowledging a player action, for the client to receive the new blocks before
+     * ending its prediction.
+     */
+    public void send() {
+        synchronized (sendLock) {
+            final Int2ObjectMap<Short2IntMap> sections;
+            final Int2ObjectMap<Block> blockEntities;
+            final int count;
+            synchronized (this) {
+                sections = this.sections;
+                blockEntities = this.blockEntities;
+                count = this.count;
+                this.sections = null;
+                this.blockEntities = null;
+                this.count = 0;
+                this.dirty = false;
+            }
+            if (sections == null || !chunk.isLoaded()) return;
+            sendChanges(sections, blockEntities, count);
+        }
+    }
+
+    /**
+     * Adds a block change to be sent during the next {@link #flush()}.
+     *
+     * @param x     the block X
+     * @param y     the block Y
+     * @param z     the block Z
+     * @param block the new block
+     */
+    public void append(int x, int y, int z, @NotNull Block block) {
+        synchronized (this) {
+            if (sections == null) this.sections = new Int2ObjectOpenHashMap<>();
+            final Short2IntMap section = sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), i -> new Short2IntOpenHashMap());
+            final short position = (short) (((x & 0xF) << 8) | ((z & 0xF) << 4) | (y & 0xF));
+            if (!section.containsKey(position)) this.count++;
+            section.put(position, block.stateId());
+            final int index = ChunkUtils.getBlockIndex(x, y, z);
+            if (block.registry().isBlockEntity()) {
+                if (blockEntities == null) this.blockEntities = new Int2ObjectOpenHashMap<>();
+                this.blockEntities.put(index, block);
+            } else if (blockEntities != null) {
+                this.blockEntities.remove(index);
+            }
+            if (dirty) return;
+            this.dirty = true;
+        }
+        DIRTY.add(this);
+    }
+
+    private void sendChanges(Int2ObjectMap<Short2IntMap> sections, Int2ObjectMap<Block> blockEntities, int count) {
+        if (count > ServerFlag.BLOCK_CHANGE_RESEND_THRESHOLD) {
+            // Cheaper to send the whole chunk, including its block entities
+            chunk.sendChunk();
+            return;
+        }
+        final int chunkX = chunk.getChunkX();
+        final int chunkZ = chunk.getChunkZ();
+        for (Int2ObjectMap.Entry<Short2IntMap> sectionEntry : sections.int2ObjectEntrySet()) {
+            final int sectionY = sectionEntry.getIntKey();
+            final Short2IntMap changes = sectionEntry.getValue();
+            if (changes.size() == 1) {
+                final Short2IntMap.Entry change = changes.short2IntEntrySet().iterator().next();
+                final short position = change.getShortKey();
+                chunk.sendPacketToViewers(new BlockChangePacket(new Vec(
+                        chunkX * Chunk.CHUNK_SIZE_X + ((position >> 8) & 0xF),
+                        sectionY * Chunk.CHUNK_SECTION_SIZE + (position & 0xF),
+                        chunkZ * Chunk.CHUNK_SIZE_Z + ((position >> 4) & 0xF)), change.getIntValue()));
+                continue;
+            }
+            long[] blocks = new long[changes.size()];
+            int i = 0;
+            for (Short2IntMap.Entry change : changes.short2IntEntrySet()) {
+                blocks[i++] = ((long) change.getIntValue() << 12) | (change.getShortKey() & 0xFFF);
+            }
+            chunk.sendPacketToViewers(new MultiBlockChangePacket(chunkX, sectionY, chunkZ, blocks));
+        }
+        if (blockEntities != null) {
+            for (Int2ObjectMap.Entry<Block> entry : blockEntities.int2ObjectEntrySet()) {
+                final Block block = entry.getValue();
+                final NBTCompound data = BlockUtils.extractClientNbt(block);
+                chunk.sendPacketToViewers(new BlockEntityDataPacket(
+                        ChunkUtils.getBlockPosition(entry.getIntKey(), chunkX, chunkZ),
+                        block.registry().blockEntityId(), data));
+            }
+        }
+    }
+}
@@ -54,6 +54,7 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
 
     protected volatile boolean loaded = true;
     private final Viewable viewable;
+    private final BlockChangeAccumulator blockChanges = new BlockChangeAccumulator(this);
 
     // Path finding
     protected PFColumnarSpace columnarSpace;
@@ -105,6 +106,26 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return getSection(ChunkUtils.getChunkCoordinate(blockY));
     }
 
+    /**
+     * Gets the height of a column, above its highest block matching a heightmap.
+     * <p>
+     * The default implementation scans the column, {@link DynamicChunk} keeps the heightmaps up to date instead.
+     *
+     * @param heightmap the heightmap type
+     * @param x         the block X
+     * @param z         the block Z
+     * @return the Y coordinate above the highest matching block, the minimum Y of the chunk if none
+     */
+    public int getHeight(@NotNull Heightmap heightmap, int x, int z) {
+        final int minY = minSection * CHUNK_SECTION_SIZE;
+        synchronized (this) {
+            for (int y = maxSection * CHUNK_SECTION_SIZE - 1; y >= minY; y--) {
+                if (heightmap.test(getBlock(x, y, z, Condition.TYPE))) return y + 1;
+            }
+        }
+        return minY;
+    }
+
     /**
      * Executes a chunk tick.
      * <p>
@@ -144,6 +165,16 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     @ApiStatus.Internal
     public abstract @NotNull SendablePacket getFullDataPacket();
 
+    /**
+     * Gets the block changes waiting to be sent to the viewers.
+     *
+     * @return the block changes of this chunk
+     */
+    @ApiStatus.Internal
+    public @NotNull BlockChangeAccumulator getBlockChanges() {
+        return blockChanges;
+    }
+
     /**
      * Creates a copy of this chunk, including blocks state id, custom block id, biomes, update data.
      * <p>
@@ -0,0 +1,122 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import static net.minestom.server.instance.Chunk.CHUNK_SECTION_SIZE;
+import static net.minestom.server.instance.Chunk.CHUNK_SIZE_X;
+import static net.minestom.server.instance.Chunk.CHUNK_SIZE_Z;
+
+/**
+ * Heights of the columns of a chunk, above the highest block matching a predicate.
+ * <p>
+ * Computed on the first access after {@link #invalidate()}, then updated by {@link #update(int, int, int, int)}
+ * on each block change. Only the block changes lowering the top of a column require a scan of the column.
+ * <p>
+ * Not thread-safe, accesses must be guarded by the chunk.
+ */
+final class ChunkHeightmap {
+    private final Chunk chunk;
+    private final IntPredicate predicate;
+    private final boolean matchesAir;
+    private final int minY, maxY;
+    private final int[] heights = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
+    private boolean valid;
+
+    ChunkHeightmap(@NotNull Chunk chunk, @NotNull IntPredicate predicate) {
+        this.chunk = chunk;
+        this.predicate = predicate;
+        this.matchesAir = predicate.test(Block.AIR.stateId());
+        this.minY = chunk.getMinSection() * CHUNK_SECTION_SIZE;
+        this.maxY = chunk.getMaxSection() * CHUNK_SECTION_SIZE;
+    }
+
+    /**
+     * Caches a block predicate for all the block states.
+     *
+     * @param predicate the block predicate
+     * @return a predicate taking a block state id
+     */
+    static @NotNull IntPredicate statePredicate(@NotNull Predicate<Block> predicate) {
+        int maxStateId = 0;
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) maxStateId = Math.max(maxStateId, state.stateId());
+        }
+        boolean[] states = new boolean[maxStateId + 1];
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) states[state.stateId()] = predicate.test(state);
+        }
+        return stateId -> stateId >= 0 && stateId < states.length && states[stateId];
+    }
+
+    /**
+     * Gets the height of a column.
+     *
+     * @param x the chunk X coordinate
+     * @param z the chunk Z coordinate
+     * @return the Y coordinate above the highest matching block, the minimum Y if none
+     */
+    int get(int x, int z) {
+        ensureValid();
+        return heights[(z & 0xF) << 4 | (x & 0xF)];
+    }
+
+    /**
+     * Gets the heights of all the columns, indexed by {@code z << 4 | x}.
+     *
+     * @return the heights array, must not be modified
+     */
+    @NotNull int[] heights() {
+        ensureValid();
+        return heights;
+    }
+
+    int highest() {
+        ensureValid();
+        int highest = minY;
+        for (int height : heights) highest = Math.max(highest, height);
+        return highest;
+    }
+
+    void update(int x, int y, int z, int stateId) {
+        if (!valid || y < minY || y >= maxY) return;
+        final int index = (z & 0xF) << 4 | (x & 0xF);
+        final int height = heights[index];
+        if (predicate.test(stateId)) {
+            if (y >= height) heights[index] = y + 1;
+        } else if (y == height - 1) {
+            heights[index] = scanColumn(x & 0xF, y - 1, z & 0xF);
+        }
+    }
+
+    void invalidate() {
+        this.valid = false;
+    }
+
+    private void ensureValid() {
+        if (valid) return;
+        for (int x = 0; x < CHUNK_SIZE_X; x++) {
+            for (int z = 0; z < CHUNK_SIZE_Z; z++) {
+                this.heights[z << 4 | x] = scanColumn(x, maxY - 1, z);
+            }
+        }
+        this.valid = true;
+    }
+
+    private int scanColumn(int x, int startY, int z) {
+        for (int sectionY = Math.floorDiv(startY, CHUNK_SECTION_SIZE); sectionY >= chunk.getMinSection(); sectionY--) {
+            final Palette palette = chunk.getSection(sectionY).blockPalette();
+            // Skip empty sections
+            if (!matchesAir && palette.count() == 0) continue;
+            final int sectionMinY = sectionY * CHUNK_SECTION_SIZE;
+            for (int y = Math.min(startY, sectionMinY + CHUNK_SECTION_SIZE - 1); y >= sectionMinY; y--) {
+                if (predicate.test(palette.get(x, y - sectionMinY, z))) return y + 1;
+            }
+        }
+        return minY;
+    }
+}
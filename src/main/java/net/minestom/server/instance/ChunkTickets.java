@@ -0,0 +1,261 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.getChunkIndex;
+
+/**
+ * Keeps track of the reasons for the chunks of an {@link InstanceContainer} to stay loaded, and unloads the others.
+ * <p>
+ * A chunk is kept loaded by:
+ * <ul>
+ *     <li>the players in view distance, including the ones of the shared instances</li>
+ *     <li>the tickets added by {@link #addTicket(int, int, Object)}, until removed by their owner</li>
+ *     <li>being {@link #setForced(int, int, boolean) forced}</li>
+ *     <li>the tickets added by {@link #addTimedTicket(int, int, int)}, until they expire</li>
+ * </ul>
+ * Chunks without ticket for {@link #getUnloadDelay()} ticks are saved through the instance {@link IChunkLoader}
+ * and unloaded, at most {@link ServerFlag#CHUNK_UNLOAD_BUDGET} per tick.
+ * The entities of an unloaded chunk are removed.
+ */
+public final class ChunkTickets {
+    // Ticks between two searches for unused chunks
+    private static final int SCAN_INTERVAL = 20;
+
+    private final InstanceContainer instance;
+
+    // Guarded by this
+    private final Long2ObjectMap<Object2IntMap<Object>> tickets = new Long2ObjectOpenHashMap<>();
+    private final LongSet forced = new LongOpenHashSet();
+    private final Long2LongMap timedTickets = new Long2LongOpenHashMap();
+
+    // Only accessed from the instance tick
+    private final Long2LongLinkedOpenHashMap unloadCandidates = new Long2LongLinkedOpenHashMap();
+    private final LongSet saving = new LongOpenHashSet();
+    private final Queue<SavedChunk> saved = new ConcurrentLinkedQueue<>();
+
+    private volatile int unloadDelay = ServerFlag.CHUNK_UNLOAD_DELAY;
+    private volatile long tick;
+
+    ChunkTickets(@NotNull InstanceContainer instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Adds a ticket keeping a chunk loaded until removed with {@link #removeTicket(int, int, Object)}.
+     * <p>
+     * An owner can add several tickets to the same chunk, each of them must be removed.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param owner  the ticket owner
+     * @return the chunk, loaded if needed
+     */
+    public @NotNull CompletableFuture<Chunk> addTicket(int chunkX, int chunkZ, @NotNull Object owner) {
+        synchronized (this) {
+            this.tickets.computeIfAbsent(getChunkIndex(chunkX, chunkZ), i -> new Object2IntOpenHashMap<>())
+                    .mergeInt(owner, 1, Integer::sum);
+        }
+        return instance.loadChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * Removes a ticket added with {@link #addTicket(int, int, Object)}.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param owner  the ticket owner
+     * @return true if the owner had a ticket on the chunk
+     */
+    public synchronized boolean removeTicket(int chunkX, int chunkZ, @NotNull Object owner) {
+        final long index = getChunkIndex(chunkX, chunkZ);
+        final Object2IntMap<Object> owners = tickets.get(index);
+        if (owners == null || !owners.containsKey(owner)) return false;
+        if (owners.mergeInt(owner, -1, Integer::sum) <= 0) owners.removeInt(owner);
+        if (owners.isEmpty()) this.tickets.remove(index);
+        return true;
+    }
+
+    /**
+     * Removes all the tickets of an owner.
+     *
+     * @param owner the ticket owner
+     */
+    public synchronized void removeTickets(@NotNull Object owner) {
+        var iterator = tickets.values().iterator();
+        while (iterator.hasNext()) {
+            final Object2IntMap<Object> owners = iterator.next();
+            owners.removeInt(owner);
+            if (owners.isEmpty()) iterator.remove();
+        }
+    }
+
+    /**
+     * Changes if a chunk is forced to stay loaded.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param forced true to load the chunk and keep it loaded
+     */
+    public void setForced(int chunkX, int chunkZ, boolean forced) {
+        final long index = getChunkIndex(chunkX, chunkZ);
+        synchronized (this) {
+            if (forced) this.forced.add(index);
+            else this.forced.remove(index);
+        }
+        if (forced) instance.loadChunk(chunkX, chunkZ);
+    }
+
+    public synchronized boolean isForced(int chunkX, int chunkZ) {
+        return forced.contains(getChunkIndex(chunkX, chunkZ));
+    }
+
+    /**
+     * Adds a ticket keeping a chunk loaded for a number of instance ticks.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param ticks  the ticket duration
+     * @return the chunk, loaded if needed
+     */
+    public @NotNull CompletableFuture<Chunk> addTimedTicket(int chunkX, int chunkZ, int ticks) {
+        final long expiration = tick + ticks;
+        synchronized (this) {
+            this.timedTickets.merge(getChunkIndex(chunkX, chunkZ), expiration, Math::max);
+        }
+        return instance.loadChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * Gets if a chunk has a ticket other than the players viewing it.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return true if the chunk has a ticket, is forced, or has an unexpired timed ticket
+     */
+    public boolean hasTicket(int chunkX, int chunkZ) {
+        return hasTicket(getChunkIndex(chunkX, chunkZ));
+    }
+
+    /**
+     * Gets the number of instance ticks a chunk without ticket stays loaded.
+     *
+     * @return the unload delay, negative if chunks are never unloaded automatically
+     */
+    public int getUnloadDelay() {
+        return unloadDelay;
+    }
+
+    /**
+     * Changes the number of instance ticks a chunk without ticket stays loaded.
+     *
+     * @param unloadDelay the unload delay, negative to disable automatic unloading
+     */
+    public void setUnloadDelay(int unloadDelay) {
+        this.unloadDelay = unloadDelay;
+    }
+
+    @ApiStatus.Internal
+    public void tick() {
+        final long tick = ++this.tick;
+        if (unloadDelay < 0) {
+            if (!unloadCandidates.isEmpty()) this.unloadCandidates.clear();
+            unloadSaved(Integer.MAX_VALUE);
+            return;
+        }
+        if (tick % SCAN_INTERVAL == 0) scan(tick);
+        int budget = ServerFlag.CHUNK_UNLOAD_BUDGET;
+        budget -= unloadSaved(budget);
+        final Long2LongLinkedOpenHashMap candidates = this.unloadCandidates;
+        while (budget > 0 && !candidates.isEmpty()) {
+            final long index = candidates.firstLongKey();
+            if (candidates.get(index) > tick) break;
+            candidates.removeFirstLong();
+            final Chunk chunk = instance.getChunk(ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index));
+            if (chunk == null || saving.contains(index) || isUsed(index, chunk)) continue;
+            budget--;
+            save(index, chunk);
+        }
+    }
+
+    private void scan(long tick) {
+        // Chunks in view of the players
+        final int viewDistance = MinecraftServer.getChunkViewDistance();
+        LongSet viewedChunks = new LongOpenHashSet();
+        for (Player player : instance.getPlayers()) {
+            ChunkUtils.forChunksInRange(player.getPosition(), viewDistance, (x, z) -> viewedChunks.add(getChunkIndex(x, z)));
+        }
+        for (SharedInstance sharedInstance : instance.getSharedInstances()) {
+            for (Player player : sharedInstance.getPlayers()) {
+                ChunkUtils.forChunksInRange(player.getPosition(), viewDistance, (x, z) -> viewedChunks.add(getChunkIndex(x, z)));
+            }
+        }
+        synchronized (this) {
+            this.timedTickets.values().removeIf(expiration -> expiration <= tick);
+        }
+        final long unloadTick = tick + unloadDelay;
+        for (Chunk chunk : instance.getChunks()) {
+            final long index = getChunkIndex(chunk);
+            if (viewedChunks.contains(index) || hasTicket(index)) {
+                this.unloadCandidates.remove(index);
+            } else if (!unloadCandidates.containsKey(index)) {
+                this.unloadCandidates.put(index, unloadTick);
+            }
+        }
+    }
+
+    private void save(long index, Chunk chunk) {
+        final IChunkLoader loader = instance.getChunkLoader();
+        if (loader == null) {
+            this.saved.add(new SavedChunk(chunk, true));
+            return;
+        }
+        this.saving.add(index);
+        loader.saveChunk(chunk).whenComplete((unused, throwable) -> {
+            if (throwable != null) MinecraftServer.getExceptionManager().handleException(throwable);
+            this.saved.add(new SavedChunk(chunk, throwable == null));
+        });
+    }
+
+    private int unloadSaved(int budget) {
+        int count = 0;
+        SavedChunk savedChunk;
+        while (count < budget && (savedChunk = saved.poll()) != null) {
+            final Chunk chunk = savedChunk.chunk();
+            final long index = getChunkIndex(chunk);
+            this.saving.remove(index);
+            // Failed saves are kept loaded, and saved again after the next scan
+            if (!savedChunk.success()) continue;
+            // Tickets may have been added during the save
+            if (!chunk.isLoaded() || isUsed(index, chunk)) continue;
+            instance.unloadChunk(chunk);
+            count++;
+        }
+        return count;
+    }
+
+    private boolean isUsed(long index, Chunk chunk) {
+        return hasTicket(index) || !chunk.getViewers().isEmpty();
+    }
+
+    private synchronized boolean hasTicket(long index) {
+        if (tickets.containsKey(index) || forced.contains(index)) return true;
+        final long expiration = timedTickets.getOrDefault(index, Long.MIN_VALUE);
+        return expiration > tick;
+    }
+
+    private record SavedChunk(Chunk chunk, boolean success) {
+    }
+}
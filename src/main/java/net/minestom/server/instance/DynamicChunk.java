@@ -21,7 +21,6 @@ import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.MathUtils;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.NotNull;
@@ -48,15 +47,25 @@ public class DynamicChunk extends Chunk {
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    // Indexed by Heightmap#ordinal
+    private final ChunkHeightmap[] heightmaps;
 
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
+    // Encoded sections, null if modified since the last chunk packet
+    private final byte[][] sectionCache;
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
         var sectionsTemp = new Section[maxSection - minSection];
         Arrays.setAll(sectionsTemp, value -> new Section());
         this.sections = List.of(sectionsTemp);
+        this.sectionCache = new byte[sectionsTemp.length][];
+        final Heightmap[] types = Heightmap.values();
+        this.heightmaps = new ChunkHeightmap[types.length];
+        for (Heightmap type : types) {
+            this.heightmaps[type.ordinal()] = new ChunkHeightmap(this, type.statePredicate());
+        }
     }
 
     @Override
@@ -72,6 +81,7 @@ public class DynamicChunk extends Chunk {
 
         this.lastChange = System.currentTimeMillis();
         this.chunkCache.invalidate();
+        this.sectionCache[ChunkUtils.getChunkCoordinate(y) - minSection] = null;
 
         // Update pathfinder
         if (columnarSpace != null) {
@@ -86,6 +96,7 @@ public class DynamicChunk extends Chunk {
                 toSectionRelativeCoordinate(z),
                 block.stateId()
         );
+        for (ChunkHeightmap heightmap : heightmaps) heightmap.update(x, y, z, block.stateId());
 
         final int index = ChunkUtils.getBlockIndex(x, y, z);
         // Handler
@@ -123,6 +134,7 @@ public class DynamicChunk extends Chunk {
     public void setBiome(int x, int y, int z, @NotNull Biome biome) {
         assertLock();
         this.chunkCache.invalidate();
+        this.sectionCache[ChunkUtils.getChunkCoordinate(y) - minSection] = null;
         Section section = getSectionAt(y);
         section.biomePalette().set(
                 toSectionRelativeCoordinate(x) / 4,
@@ -143,6 +155,11 @@ public class DynamicChunk extends Chunk {
     @Override
     public void tick(long time) {
         if (tickableMap.isEmpty()) return;
+        final int ticks = instance.getScheduledTicks();
+        for (int i = 0; i < ticks; i++) tickBlocks();
+    }
+
+    private void tickBlocks() {
         tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
             final int index = entry.getIntKey();
             final Block block = entry.getValue();
@@ -183,6 +200,13 @@ public class DynamicChunk extends Chunk {
         return MinecraftServer.getBiomeManager().getById(id);
     }
 
+    @Override
+    public int getHeight(@NotNull Heightmap heightmap, int x, int z) {
+        synchronized (this) {
+            return heightmaps[heightmap.ordinal()].get(x, z);
+        }
+    }
+
     @Override
     public long getLastChangeTime() {
         return lastChange;
@@ -205,23 +229,41 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        invalidate();
     }
 
     @Override
     public void invalidate() {
         this.chunkCache.invalidate();
+        synchronized (this) {
+            Arrays.fill(sectionCache, null);
+        }
+        for (ChunkHeightmap heightmap : heightmaps) heightmap.invalidate();
     }
 
     private @NotNull ChunkDataPacket createChunkPacket() {
         final NBTCompound heightmapsNBT = computeHeightmap();
         // Data
-
-        final byte[] data;
+        final byte[][] encodedSections = new byte[sectionCache.length][];
+        int size = 0;
         synchronized (this) {
-            data = ObjectPool.PACKET_POOL.use(buffer ->
-                    NetworkBuffer.makeArray(networkBuffer -> {
-                        for (Section section : sections) networkBuffer.write(section);
-                    }));
+            for (int i = 0; i < encodedSections.length; i++) {
+                byte[] encoded = sectionCache[i];
+                if (encoded == null) {
+                    // Only re-encode the modified sections
+                    final Section section = sections.get(i);
+                    encoded = NetworkBuffer.makeArray(networkBuffer -> networkBuffer.write(section));
+                    this.sectionCache[i] = encoded;
+                }
+                encodedSections[i] = encoded;
+                size += encoded.length;
+            }
+        }
+        final byte[] data = new byte[size];
+        int offset = 0;
+        for (byte[] encoded : encodedSections) {
+            System.arraycopy(encoded, 0, data, offset, encoded.length);
+            offset += encoded.length;
         }
 
         return new ChunkDataPacket(chunkX, chunkZ,
@@ -231,23 +273,25 @@ public class DynamicChunk extends Chunk {
     }
 
     protected NBTCompound computeHeightmap() {
-        // TODO: don't hardcode heightmaps
-        // Heightmap
-        int dimensionHeight = getInstance().getDimensionType().getHeight();
-        int[] motionBlocking = new int[16 * 16];
-        int[] worldSurface = new int[16 * 16];
-        for (int x = 0; x < 16; x++) {
-            for (int z = 0; z < 16; z++) {
-                motionBlocking[x + z * 16] = 0;
-                worldSurface[x + z * 16] = dimensionHeight - 1;
-            }
+        // Heights are sent relative to the bottom of the world
+        final int minY = getMinSection() * CHUNK_SECTION_SIZE;
+        final int bitsForHeight = MathUtils.bitsToRepresent(getInstance().getDimensionType().getHeight());
+        final int[] motionBlocking, worldSurface;
+        synchronized (this) {
+            motionBlocking = relativeHeights(Heightmap.MOTION_BLOCKING, minY);
+            worldSurface = relativeHeights(Heightmap.WORLD_SURFACE, minY);
         }
-        final int bitsForHeight = MathUtils.bitsToRepresent(dimensionHeight);
         return NBT.Compound(Map.of(
                 "MOTION_BLOCKING", NBT.LongArray(encodeBlocks(motionBlocking, bitsForHeight)),
                 "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
     }
 
+    private int[] relativeHeights(Heightmap heightmap, int minY) {
+        final int[] heights = heightmaps[heightmap.ordinal()].heights().clone();
+        for (int i = 0; i < heights.length; i++) heights[i] -= minY;
+        return heights;
+    }
+
     @NotNull UpdateLightPacket createLightPacket() {
         return new UpdateLightPacket(chunkX, chunkZ, createLightData());
     }
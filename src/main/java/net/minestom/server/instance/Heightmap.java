@@ -0,0 +1,51 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * The types of heightmap kept by the chunks, each one tracking the highest block of every column
+ * matching a predicate.
+ *
+ * @see Chunk#getHeight(Heightmap, int, int)
+ * @see Instance#getHeight(Heightmap, int, int)
+ */
+public enum Heightmap {
+    /**
+     * Blocks stopping the movement of entities, and fluids.
+     */
+    MOTION_BLOCKING(block -> block.isSolid() || block.isLiquid() || "true".equals(block.getProperty("waterlogged"))),
+    /**
+     * Any block other than air.
+     */
+    WORLD_SURFACE(block -> !block.isAir()),
+    /**
+     * Blocks stopping the movement of entities.
+     */
+    OCEAN_FLOOR(Block::isSolid);
+
+    private final Predicate<Block> predicate;
+    private final IntPredicate statePredicate;
+
+    Heightmap(@NotNull Predicate<Block> predicate) {
+        this.predicate = predicate;
+        this.statePredicate = ChunkHeightmap.statePredicate(predicate);
+    }
+
+    /**
+     * Gets if a block is tracked by this heightmap.
+     *
+     * @param block the block to test
+     * @return true if the block can be the highest block of a column
+     */
+    public boolean test(@NotNull Block block) {
+        return predicate.test(block);
+    }
+
+    @NotNull IntPredicate statePredicate() {
+        return statePredicate;
+    }
+}
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.pointer.Pointers;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.ServerProcess;
 import net.minestom.server.Tickable;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
@@ -86,6 +87,12 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     // Field for tick events
     private long lastTickAge = System.currentTimeMillis();
 
+    // Tick rate
+    private volatile InstanceTickPolicy tickPolicy = InstanceTickPolicy.normal();
+    private volatile int tickRate = ServerFlag.SERVER_TICKS_PER_SECOND;
+    private volatile int scheduledTicks = 1;
+    private double tickProgress;
+
     private final EntityTracker entityTracker = new EntityTrackerImpl();
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
@@ -502,7 +509,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     @ApiStatus.Internal
     public @NotNull TimeUpdatePacket createTimePacket() {
         long time = this.time;
-        if (timeRate == 0) {
+        // Clients cannot predict the time of instances not ticking at the server rate
+        if (timeRate == 0 || tickRate != ServerFlag.SERVER_TICKS_PER_SECOND) {
             //Negative values stop the sun and moon from moving
             //0 as a long cannot be negative
             time = time == 0 ? -24000L : -Math.abs(time);
@@ -596,6 +604,22 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return block;
     }
 
+    /**
+     * Gets the height of a column, above its highest block matching a heightmap.
+     *
+     * @param heightmap the heightmap type
+     * @param x         the block X
+     * @param z         the block Z
+     * @return the Y coordinate above the highest matching block, the minimum Y of the dimension if none
+     * @throws NullPointerException if the chunk is not loaded
+     * @see Chunk#getHeight(Heightmap, int, int)
+     */
+    public int getHeight(@NotNull Heightmap heightmap, int x, int z) {
+        final Chunk chunk = getChunkAt(x, z);
+        if (chunk == null) throw new NullPointerException("Unloaded chunk at " + x + "," + z);
+        return chunk.getHeight(heightmap, x, z);
+    }
+
     /**
      * Sends a {@link BlockActionPacket} for all the viewers of the specific position.
      *
@@ -661,8 +685,9 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         {
             this.worldAge++;
             this.time += timeRate;
-            // time needs to be sent to players
-            if (timeUpdate != null && !Cooldown.hasCooldown(time, lastTimeUpdate, timeUpdate)) {
+            // time needs to be sent to players, every tick if they cannot predict it
+            if (timeUpdate != null && (tickRate != ServerFlag.SERVER_TICKS_PER_SECOND ||
+                    !Cooldown.hasCooldown(time, lastTimeUpdate, timeUpdate))) {
                 PacketUtils.sendGroupedPacket(getPlayers(), createTimePacket());
                 this.lastTimeUpdate = time;
             }
@@ -678,6 +703,54 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         this.worldBorder.update();
     }
 
+    /**
+     * Gets the policy defining how often this instance is ticked.
+     *
+     * @return the tick policy
+     */
+    @ApiStatus.Experimental
+    public @NotNull InstanceTickPolicy getTickPolicy() {
+        return tickPolicy;
+    }
+
+    /**
+     * Changes how often this instance, its chunks and its entities are ticked.
+     *
+     * @param tickPolicy the new tick policy
+     */
+    @ApiStatus.Experimental
+    public void setTickPolicy(@NotNull InstanceTickPolicy tickPolicy) {
+        this.tickPolicy = tickPolicy;
+    }
+
+    /**
+     * Computes the number of times the instance has to be ticked during the current server tick.
+     * <p>
+     * Called once per server tick, before ticking the instance and the chunk partitions.
+     *
+     * @return the number of instance ticks to run
+     */
+    @ApiStatus.Internal
+    public int prepareTick() {
+        final int tickRate = tickPolicy.ticksPerSecond(this);
+        this.tickRate = tickRate;
+        this.tickProgress += (double) tickRate / ServerFlag.SERVER_TICKS_PER_SECOND;
+        final int ticks = (int) tickProgress;
+        this.tickProgress -= ticks;
+        this.scheduledTicks = ticks;
+        return ticks;
+    }
+
+    /**
+     * Gets the number of times the chunks and entities of this instance are ticked during the current server tick.
+     *
+     * @return the number of ticks, 0 if suspended
+     */
+    @ApiStatus.Internal
+    public int getScheduledTicks() {
+        return scheduledTicks;
+    }
+
     @Override
     public @NotNull TagHandler tagHandler() {
         return tagHandler;
@@ -2,6 +2,7 @@ package net.minestom.server.instance;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
@@ -20,6 +21,7 @@ import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
+import net.minestom.server.thread.ServerExecutors;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
@@ -41,8 +43,6 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
@@ -69,9 +69,12 @@ public class InstanceContainer extends Instance {
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    private final ChunkTickets chunkTickets = new ChunkTickets(this);
 
-    private final Lock changingBlockLock = new ReentrantLock();
-    private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
+    // Taken before the chunk lock by the block changes calling block handlers
+    private final ReentrantLock handlerLock = new ReentrantLock();
+    // Blocks changed by the current thread until its outermost block change ends
+    private final ThreadLocal<BlockChangeContext> changeContext = ThreadLocal.withInitial(BlockChangeContext::new);
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private IChunkLoader chunkLoader;
@@ -84,7 +87,7 @@ public class InstanceContainer extends Instance {
 
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
-    private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
+    private volatile long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
 
     public InstanceContainer(@NotNull UUID uniqueId, @NotNull DimensionType dimensionType) {
         this(uniqueId, dimensionType, null, dimensionType.getName());
@@ -121,7 +124,11 @@ public class InstanceContainer extends Instance {
     /**
      * Sets a block at the specified position.
      * <p>
-     * Unsafe because the method is not synchronized and it does not verify if the chunk is loaded or not.
+     * Unsafe because it does not verify if the chunk is loaded or not.
+     * <p>
+     * Only the chunk is locked while its data changes, so that blocks of different chunks can be set concurrently.
+     * Changes calling block handlers additionally take {@link #handlerLock} before the chunk lock,
+     * as handlers may set blocks in other chunks.
      *
      * @param chunk the {@link Chunk} which should be loaded
      * @param x     the block X
@@ -129,25 +136,25 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
-    private synchronized void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
-                                              @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
-                                              boolean doBlockUpdates, int updateDistance) {
+    private void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                 boolean doBlockUpdates, int updateDistance) {
         if (chunk.isReadOnly()) return;
         if(y >= getDimensionType().getMaxY() || y < getDimensionType().getMinY()) {
             LOGGER.warn("tried to set a block outside the world bounds, should be within [{}, {}): {}", getDimensionType().getMinY(), getDimensionType().getMaxY(), y);
             return;
         }
 
-        synchronized (chunk) {
-            // Refresh the last block change time
-            this.lastBlockChangeTime = System.currentTimeMillis();
-            final Vec blockPosition = new Vec(x, y, z);
-            if (isAlreadyChanged(blockPosition, block)) { // do NOT change the block again.
-                // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
-                // This can happen with nether portals which break the entire frame when a portal block is broken
-                return;
-            }
-            this.currentlyChangingBlocks.put(blockPosition, block);
+        final BlockChangeContext context = changeContext.get();
+        final Vec blockPosition = new Vec(x, y, z);
+        if (Objects.equals(context.changes.get(blockPosition), block)) { // do NOT change the block again.
+            // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
+            // This can happen with nether portals which break the entire frame when a portal block is broken
+            return;
+        }
+        context.depth++;
+        try {
+            context.changes.put(blockPosition, block);
 
             // Change id based on neighbors
             final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
@@ -174,22 +181,55 @@ public class InstanceContainer extends Instance {
             }
 
             // Set the block
-            chunk.setBlock(x, y, z, block, placement, destroy);
+            setChunkBlock(chunk, blockPosition, block, placement, destroy);
+            // Refresh the last block change time
+            this.lastBlockChangeTime = System.currentTimeMillis();
 
             // Refresh neighbors since a new block has been placed
             if (doBlockUpdates) {
                 executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
             }
+        } finally {
+            if (--context.depth == 0) context.changes.clear();
+        }
+    }
 
-            // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                var registry = block.registry();
-                if (registry.isBlockEntity()) {
-                    final NBTCompound data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
+    private void setChunkBlock(@NotNull Chunk chunk, @NotNull Vec blockPosition, @NotNull Block block,
+                               @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy) {
+        final int x = blockPosition.blockX(), y = blockPosition.blockY(), z = blockPosition.blockZ();
+        final ReentrantLock handlerLock = this.handlerLock;
+        boolean handlerLocked = false;
+        if (block.handler() != null) {
+            handlerLock.lock();
+            handlerLocked = true;
+        }
+        try {
+            while (true) {
+                synchronized (chunk) {
+                    final Block previousBlock = chunk.getBlock(x, y, z, Condition.CACHED);
+                    if (handlerLocked || previousBlock == null || previousBlock.handler() == null) {
+                        chunk.setBlock(x, y, z, block, placement, destroy);
+                        if (ServerFlag.BLOCK_CHANGE_BATCHING) {
+                            // Sent at the end of the tick
+                            chunk.getBlockChanges().append(x, y, z, block);
+                            return;
+                        }
+                        // Refresh player chunk block, in the lock to keep the packets ordered
+                        chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
+                        var registry = block.registry();
+                        if (registry.isBlockEntity()) {
+                            final NBTCompound data = BlockUtils.extractClientNbt(block);
+                            chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
+                        }
+                        return;
+                    }
                 }
+                // The previous block handler will be called, retry with the lock
+                handlerLock.lock();
+                handlerLocked = true;
             }
+        } finally {
+            if (handlerLocked) handlerLock.unlock();
         }
     }
 
@@ -317,7 +357,7 @@ public class InstanceContainer extends Instance {
                     return null;
                 });
         if (loader.supportsParallelLoading()) {
-            CompletableFuture.runAsync(retriever);
+            ServerExecutors.io().execute(retriever);
         } else {
             retriever.run();
         }
@@ -332,8 +372,7 @@ public class InstanceContainer extends Instance {
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
             CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
+            ServerExecutors.generation().execute(() -> {
                 var chunkUnit = GeneratorImpl.chunk(chunk);
                 try {
                     // Generate block/biome palette
@@ -581,6 +620,15 @@ public class InstanceContainer extends Instance {
         return chunkLoader;
     }
 
+    /**
+     * Gets the tickets keeping the chunks of this instance loaded.
+     *
+     * @return the chunk tickets
+     */
+    public @NotNull ChunkTickets getChunkTickets() {
+        return chunkTickets;
+    }
+
     /**
      * Changes the {@link IChunkLoader} of this instance (to change how chunks are retrieved when not already loaded).
      *
@@ -594,24 +642,8 @@ public class InstanceContainer extends Instance {
     public void tick(long time) {
         // Time/world border
         super.tick(time);
-        // Clear block change map
-        Lock wrlock = this.changingBlockLock;
-        wrlock.lock();
-        this.currentlyChangingBlocks.clear();
-        wrlock.unlock();
-    }
-
-    /**
-     * Has this block already changed since last update?
-     * Prevents StackOverflow with blocks trying to modify their position in onDestroy or onPlace.
-     *
-     * @param blockPosition the block position
-     * @param block         the block
-     * @return true if the block changed since the last update
-     */
-    private boolean isAlreadyChanged(@NotNull Point blockPosition, @NotNull Block block) {
-        final Block changedBlock = currentlyChangingBlocks.get(blockPosition);
-        return Objects.equals(changedBlock, block);
+        // Unload the chunks without ticket
+        this.chunkTickets.tick();
     }
 
     /**
@@ -666,4 +698,9 @@ public class InstanceContainer extends Instance {
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.createPartition(chunk);
     }
+
+    private static final class BlockChangeContext {
+        private final Map<Point, Block> changes = new HashMap<>();
+        private int depth;
+    }
 }
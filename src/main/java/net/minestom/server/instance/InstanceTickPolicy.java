@@ -0,0 +1,73 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines how often an {@link Instance}, its chunks and its entities are ticked.
+ * <p>
+ * The instance time, scheduler and tick events follow the instance ticks,
+ * players are always ticked at the server rate to process their packets.
+ */
+@ApiStatus.Experimental
+public sealed interface InstanceTickPolicy {
+    /**
+     * Ticks the instance at the server rate.
+     */
+    static @NotNull InstanceTickPolicy normal() {
+        return rate(ServerFlag.SERVER_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Ticks the instance at a custom rate, possibly multiple times per server tick.
+     *
+     * @param ticksPerSecond the number of instance ticks per second
+     */
+    static @NotNull InstanceTickPolicy rate(int ticksPerSecond) {
+        return new Rate(ticksPerSecond);
+    }
+
+    /**
+     * Never ticks the instance.
+     */
+    static @NotNull InstanceTickPolicy suspended() {
+        return rate(0);
+    }
+
+    /**
+     * Uses a different policy when the instance has no player.
+     *
+     * @param active the policy used when players are in the instance
+     * @param empty  the policy used when the instance is empty
+     */
+    static @NotNull InstanceTickPolicy dormant(@NotNull InstanceTickPolicy active, @NotNull InstanceTickPolicy empty) {
+        return new Dormant(active, empty);
+    }
+
+    /**
+     * Gets the current tick rate of an instance.
+     *
+     * @param instance the instance
+     * @return the number of ticks per second
+     */
+    int ticksPerSecond(@NotNull Instance instance);
+
+    record Rate(int ticksPerSecond) implements InstanceTickPolicy {
+        public Rate {
+            if (ticksPerSecond < 0) throw new IllegalArgumentException("Tick rate cannot be negative");
+        }
+
+        @Override
+        public int ticksPerSecond(@NotNull Instance instance) {
+            return ticksPerSecond;
+        }
+    }
+
+    record Dormant(@NotNull InstanceTickPolicy active, @NotNull InstanceTickPolicy empty) implements InstanceTickPolicy {
+        @Override
+        public int ticksPerSecond(@NotNull Instance instance) {
+            return instance.getPlayers().isEmpty() ? empty.ticksPerSecond(instance) : active.ticksPerSecond(instance);
+        }
+    }
+}
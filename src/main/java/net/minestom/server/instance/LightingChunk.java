@@ -13,19 +13,18 @@ import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.UpdateLightPacket;
 import net.minestom.server.network.packet.server.play.data.LightData;
-import net.minestom.server.utils.MathUtils;
+import net.minestom.server.thread.ServerExecutors;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jglrxavpok.hephaistos.nbt.NBT;
-import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
 
 import static net.minestom.server.instance.light.LightCompute.emptyContent;
 
@@ -36,13 +35,12 @@ import static net.minestom.server.instance.light.LightCompute.emptyContent;
  * <p>
  */
 public class LightingChunk extends DynamicChunk {
+    // Light computations of each instance, see lockLight
+    private static final Map<Instance, InstanceLight> INSTANCE_LIGHTS = Collections.synchronizedMap(new WeakHashMap<>());
 
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
-
-    private int[] heightmap;
     final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
+    private final InstanceLight instanceLight;
     boolean chunkLoaded = false;
-    private int highestBlock;
     private boolean initialLightingSent = false;
 
     enum LightType {
@@ -79,17 +77,23 @@ public class LightingChunk extends DynamicChunk {
             Block.TALL_SEAGRASS.namespace(),
             Block.LAVA.namespace()
     );
+    private static final IntPredicate SKY_OCCLUSION = ChunkHeightmap.statePredicate(LightingChunk::checkSkyOcclusion);
+
+    // Highest sky occluding blocks
+    private final ChunkHeightmap skyHeightmap = new ChunkHeightmap(this, SKY_OCCLUSION);
 
     public void invalidate() {
+        super.invalidate();
         this.lightCache.invalidate();
-        this.chunkCache.invalidate();
+        this.skyHeightmap.invalidate();
     }
 
     public LightingChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ);
+        this.instanceLight = light(instance);
     }
 
-    private boolean checkSkyOcclusion(Block block) {
+    private static boolean checkSkyOcclusion(Block block) {
         if (block == Block.AIR) return false;
         if (DIFFUSE_SKY_LIGHT.contains(block.namespace())) return true;
 
@@ -125,16 +129,58 @@ public class LightingChunk extends DynamicChunk {
                          @Nullable BlockHandler.Placement placement,
                          @Nullable BlockHandler.Destroy destroy) {
         super.setBlock(x, y, z, block, placement, destroy);
-        this.heightmap = null;
+        this.skyHeightmap.update(x, y, z, block.stateId());
 
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = ChunkUtils.getChunkCoordinate(y);
         if (chunkLoaded) {
-            invalidateSection(coordinate);
-            this.lightCache.invalidate();
+            final Runnable invalidation = () -> {
+                invalidateSection(coordinate);
+                this.lightCache.invalidate();
+            };
+            // Never wait for the light lock while holding the chunk, relights need the chunks
+            final InstanceLight light = this.instanceLight;
+            if (light.lock.tryLock()) {
+                try {
+                    invalidation.run();
+                } finally {
+                    light.unlock();
+                }
+            } else {
+                // Applied by the relight once its sections have been marked valid
+                light.invalidations.add(invalidation);
+            }
         }
     }
 
+    /**
+     * Gets the light computation state of an instance, shared by all its lighting chunks.
+     *
+     * @param instance the instance
+     * @return the light state of the instance
+     */
+    static InstanceLight light(Instance instance) {
+        return INSTANCE_LIGHTS.computeIfAbsent(instance, i -> new InstanceLight());
+    }
+
+    /**
+     * Locks the light of an instance, preventing block changes from invalidating it during a computation.
+     *
+     * @param instance the instance whose light is computed
+     */
+    static void lockLight(Instance instance) {
+        light(instance).lock.lock();
+    }
+
+    /**
+     * Unlocks the light of an instance, applying the invalidations of the block changes made in the meantime.
+     *
+     * @param instance the instance whose light was computed
+     */
+    static void unlockLight(Instance instance) {
+        light(instance).unlock();
+    }
+
     public void sendLighting() {
         if (!isLoaded()) return;
         sendPacketToViewers(lightCache);
@@ -149,43 +195,22 @@ public class LightingChunk extends DynamicChunk {
         return initialLightingSent;
     }
 
-    @Override
-    protected NBTCompound computeHeightmap() {
-        // Heightmap
-        int[] heightmap = getHeightmap();
-        int dimensionHeight = getInstance().getDimensionType().getHeight();
-        final int bitsForHeight = MathUtils.bitsToRepresent(dimensionHeight);
-        return NBT.Compound(Map.of(
-                "MOTION_BLOCKING", NBT.LongArray(encodeBlocks(heightmap, bitsForHeight)),
-                "WORLD_SURFACE", NBT.LongArray(encodeBlocks(heightmap, bitsForHeight))));
-    }
-
-    // Lazy compute heightmap
+    /**
+     * Gets the height above the highest sky occluding block of each column.
+     *
+     * @return the heights, indexed by {@code z << 4 | x}
+     */
     public int[] getHeightmap() {
-        if (this.heightmap != null) return this.heightmap;
-        var heightmap = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
-
-        int minY = instance.getDimensionType().getMinY();
-        int maxY = instance.getDimensionType().getMinY() + instance.getDimensionType().getHeight();
-        highestBlock = minY;
-
         synchronized (this) {
-            for (int x = 0; x < CHUNK_SIZE_X; x++) {
-                for (int z = 0; z < CHUNK_SIZE_Z; z++) {
-                    int height = maxY;
-                    while (height > minY) {
-                        Block block = getBlock(x, height, z, Condition.TYPE);
-                        if (checkSkyOcclusion(block)) break;
-                        height--;
-                    }
-                    heightmap[z << 4 | x] = (height + 1);
-                    if (height > highestBlock) highestBlock = height;
-                }
-            }
+            return skyHeightmap.heights().clone();
         }
+    }
 
-        this.heightmap = heightmap;
-        return heightmap;
+    private int highestBlock() {
+        final int minY = instance.getDimensionType().getMinY();
+        synchronized (this) {
+            return Math.max(minY, skyHeightmap.highest() - 1);
+        }
     }
 
     @Override
@@ -304,7 +329,7 @@ public class LightingChunk extends DynamicChunk {
 
                 var toAdd = light.flip();
                 if (toAdd != null) newQueue.addAll(toAdd);
-            }, pool);
+            }, ServerExecutors.lighting());
 
             tasks.add(task);
         }
@@ -333,7 +358,8 @@ public class LightingChunk extends DynamicChunk {
     public static List<Chunk> relight(Instance instance, Collection<Chunk> chunks) {
         Set<Point> sections = new HashSet<>();
 
-        synchronized (instance) {
+        lockLight(instance);
+        try {
             for (Chunk chunk : chunks) {
                 if (chunk == null) continue;
                 if (chunk instanceof LightingChunk lighting) {
@@ -373,6 +399,8 @@ public class LightingChunk extends DynamicChunk {
             }
 
             return new ArrayList<>(chunksToRelight);
+        } finally {
+            unlockLight(instance);
         }
     }
 
@@ -388,9 +416,8 @@ public class LightingChunk extends DynamicChunk {
                 if (chunkCheck == null) continue;
 
                 if (chunkCheck instanceof LightingChunk lighting) {
-                    // Ensure heightmap is calculated before taking values from it
-                    lighting.getHeightmap();
-                    if (lighting.highestBlock > highestRegionPoint) highestRegionPoint = lighting.highestBlock;
+                    final int highestBlock = lighting.highestBlock();
+                    if (highestBlock > highestRegionPoint) highestRegionPoint = highestBlock;
                 }
             }
         }
@@ -450,9 +477,12 @@ public class LightingChunk extends DynamicChunk {
         if (c == null) return Set.of();
         if (!(c instanceof LightingChunk)) return Set.of();
 
-        synchronized (instance) {
+        lockLight(instance);
+        try {
             Set<Point> collected = collectRequiredNearby(instance, new Vec(chunkX, sectionY, chunkZ), type);
             return relight(instance, collected, type);
+        } finally {
+            unlockLight(instance);
         }
     }
 
@@ -467,4 +497,25 @@ public class LightingChunk extends DynamicChunk {
         lightingChunk.entries.putAll(entries);
         return lightingChunk;
     }
-}
\ No newline at end of file
+
+    static final class InstanceLight {
+        final ReentrantLock lock = new ReentrantLock();
+        // Block changes made while the light was being computed
+        final Queue<Runnable> invalidations = new ConcurrentLinkedQueue<>();
+
+        private void unlock() {
+            if (lock.getHoldCount() > 1) {
+                // Nested, the outermost computation is not done yet
+                lock.unlock();
+                return;
+            }
+            while (true) {
+                Runnable invalidation;
+                while ((invalidation = invalidations.poll()) != null) invalidation.run();
+                lock.unlock();
+                // Invalidations queued after the last poll are applied by the next owner, or here
+                if (invalidations.isEmpty() || !lock.tryLock()) return;
+            }
+        }
+    }
+}
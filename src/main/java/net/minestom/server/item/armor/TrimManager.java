@@ -1,6 +1,7 @@
 package net.minestom.server.item.armor;
 
 import net.minestom.server.item.Material;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.jglrxavpok.hephaistos.nbt.NBT;
 import org.jglrxavpok.hephaistos.nbt.NBTCompound;
@@ -9,12 +10,14 @@ import org.jglrxavpok.hephaistos.nbt.NBTType;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TrimManager {
     private final Set<TrimMaterial> trimMaterials;
     private final Set<TrimPattern> trimPatterns;
     private NBTCompound trimMaterialCache = null;
     private NBTCompound trimPatternCache = null;
+    private final AtomicInteger version = new AtomicInteger();
 
     public TrimManager() {
         this.trimMaterials = new HashSet<>();
@@ -76,32 +79,55 @@ public class TrimManager {
     }
 
     public void addDefaultTrimMaterials() {
-        this.trimMaterialCache = null;
         this.trimMaterials.addAll(TrimMaterial.values());
+        this.trimMaterialCache = null;
+        this.version.incrementAndGet();
     }
 
     public void addDefaultTrimPatterns() {
-        this.trimMaterialCache = null;
         this.trimPatterns.addAll(TrimPattern.values());
+        this.trimPatternCache = null;
+        this.version.incrementAndGet();
     }
 
     public boolean addTrimMaterial(TrimMaterial trimMaterial) {
+        final boolean added = this.trimMaterials.add(trimMaterial);
         this.trimMaterialCache = null;
-        return this.trimMaterials.add(trimMaterial);
+        this.version.incrementAndGet();
+        return added;
     }
 
     public boolean removeTrimMaterial(TrimMaterial trimMaterial) {
+        final boolean removed = this.trimMaterials.remove(trimMaterial);
         this.trimMaterialCache = null;
-        return this.trimMaterials.remove(trimMaterial);
+        this.version.incrementAndGet();
+        return removed;
     }
 
     public boolean addTrimPattern(TrimPattern trimPattern) {
-        this.trimMaterialCache = null;
-        return this.trimPatterns.add(trimPattern);
+        final boolean added = this.trimPatterns.add(trimPattern);
+        this.trimPatternCache = null;
+        this.version.incrementAndGet();
+        return added;
     }
 
     public boolean removeTrimPattern(TrimPattern trimPattern) {
-        this.trimMaterialCache = null;
-        return this.trimPatterns.remove(trimPattern);
+        final boolean removed = this.trimPatterns.remove(trimPattern);
+        this.trimPatternCache = null;
+        this.version.incrementAndGet();
+        return removed;
+    }
+
+    /**
+     * Gets the version of the registered trim materials and patterns, incremented on every change.
+     * <p>
+     * Used to invalidate the cached registry packets.
+     *
+     * @return the current version
+     */
+    @ApiStatus.Internal
+    public int version() {
+        return version.get();
     }
+
 }
@@ -68,7 +68,7 @@ public class BlockPlacementListener {
         if (blockUse) {
             // If the usage was blocked then the world is already up-to-date (from the prior handlers),
             // So ack the change with the current world state.
-            player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
+            acknowledge(player, interactedChunk, packet.sequence());
             return;
         }
 
@@ -78,7 +78,7 @@ public class BlockPlacementListener {
             PlayerUseItemOnBlockEvent event = new PlayerUseItemOnBlockEvent(player, hand, usedItem, blockPosition, cursorPosition, blockFace);
             EventDispatcher.call(event);
             // Ack the block change. This is required to reset the client prediction to the server state.
-            player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
+            acknowledge(player, interactedChunk, packet.sequence());
             return;
         }
 
@@ -165,7 +165,7 @@ public class BlockPlacementListener {
         Block resultBlock = playerBlockPlaceEvent.getBlock();
         instance.placeBlock(new BlockHandler.PlayerPlacement(resultBlock, instance, placementPosition, player, hand, blockFace,
                 packet.cursorPositionX(), packet.cursorPositionY(), packet.cursorPositionZ()), playerBlockPlaceEvent.shouldDoBlockUpdates());
-        player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
+        acknowledge(player, chunk, packet.sequence());
         // Block consuming
         if (playerBlockPlaceEvent.doesConsumeBlock()) {
             // Consume the block in the player's hand
@@ -181,4 +181,10 @@ public class BlockPlacementListener {
         player.getInventory().update();
         chunk.sendChunk(player);
     }
+
+    private static void acknowledge(Player player, Chunk chunk, int sequence) {
+        // The client must receive the new blocks before ending its prediction
+        chunk.getBlockChanges().send();
+        player.sendPacket(new AcknowledgeBlockChangePacket(sequence));
+    }
 }
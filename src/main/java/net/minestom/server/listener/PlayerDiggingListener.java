@@ -11,6 +11,7 @@ import net.minestom.server.event.player.PlayerCancelDiggingEvent;
 import net.minestom.server.event.player.PlayerFinishDiggingEvent;
 import net.minestom.server.event.player.PlayerStartDiggingEvent;
 import net.minestom.server.event.player.PlayerSwapItemEvent;
+import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
@@ -53,6 +54,9 @@ public final class PlayerDiggingListener {
         }
         // Acknowledge start/cancel/finish digging status
         if (diggingResult != null) {
+            // The client must receive the new block before ending its prediction
+            final Chunk chunk = instance.getChunkAt(blockPosition);
+            if (chunk != null) chunk.getBlockChanges().send();
             player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
             if (!diggingResult.success()) {
                 // Refresh block on player screen in case it had special data (like a sign)
@@ -0,0 +1,86 @@
+package net.minestom.server.monitoring;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of the time spent waiting to acquire a {@link net.minestom.server.thread.Acquirable}.
+ * <p>
+ * Bucket 0 counts the waits under 1µs, bucket {@code i} the waits between 2^(i-1) and 2^i µs,
+ * and the last bucket all the longer waits.
+ */
+public final class AcquisitionHistogram {
+    public static final int BUCKET_COUNT = 16;
+    private static final AcquisitionHistogram EMPTY = new AcquisitionHistogram(new long[BUCKET_COUNT]);
+
+    private final long[] counts;
+
+    public AcquisitionHistogram(@NotNull long[] counts) {
+        if (counts.length != BUCKET_COUNT) throw new IllegalArgumentException("Expected " + BUCKET_COUNT + " buckets");
+        this.counts = counts.clone();
+    }
+
+    public static @NotNull AcquisitionHistogram empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the bucket of a wait time.
+     *
+     * @param nanos the wait time in nanoseconds
+     * @return the bucket index
+     */
+    public static int bucket(long nanos) {
+        final long micros = nanos / 1000;
+        if (micros <= 0) return 0;
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Gets the exclusive upper bound of a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the upper bound in microseconds, {@link Long#MAX_VALUE} for the last bucket
+     */
+    public static long upperBoundMicros(int bucket) {
+        if (bucket >= BUCKET_COUNT - 1) return Long.MAX_VALUE;
+        return 1L << bucket;
+    }
+
+    public long count(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Gets the number of acquisitions.
+     *
+     * @return the total count
+     */
+    public long count() {
+        return Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Gets an upper bound of the given percentile.
+     *
+     * @param percentile the percentile, between 0 and 1
+     * @return the upper bound in microseconds of the bucket containing the percentile, 0 if empty
+     */
+    public long percentileMicros(double percentile) {
+        final long total = count();
+        if (total == 0) return 0;
+        final long target = (long) Math.ceil(total * percentile);
+        long cumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulated += counts[i];
+            if (cumulated >= target) return upperBoundMicros(i);
+        }
+        return upperBoundMicros(BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "AcquisitionHistogram" + Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,54 @@
+package net.minestom.server.monitoring;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the last samples of a duration to compute its percentiles.
+ */
+public final class RollingHistogram {
+    private final long[] samples;
+    private int index;
+    private int count;
+
+    public RollingHistogram(int size) {
+        if (size <= 0) throw new IllegalArgumentException("Size must be positive");
+        this.samples = new long[size];
+    }
+
+    public synchronized void record(long value) {
+        this.samples[index] = value;
+        this.index = (index + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    /**
+     * Gets the percentiles of the recorded samples.
+     *
+     * @return the summary of the samples, zeroed if empty
+     */
+    public @NotNull Summary summary() {
+        final long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, count);
+        }
+        if (sorted.length == 0) return new Summary(0, 0, 0, 0);
+        Arrays.sort(sorted);
+        return new Summary(sorted.length, percentile(sorted, 0.5), percentile(sorted, 0.99), sorted[sorted.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        final int index = (int) Math.ceil(sorted.length * percentile) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * @param count the number of samples
+     * @param p50   the median, in nanoseconds
+     * @param p99   the 99th percentile, in nanoseconds
+     * @param max   the highest sample, in nanoseconds
+     */
+    public record Summary(int count, long p50, long p99, long max) {
+    }
+}
@@ -1,13 +1,29 @@
 package net.minestom.server.monitoring;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final AcquisitionHistogram acquisitionHistogram;
+    private final TickProfile profile;
 
-    public TickMonitor(double tickTime, double acquisitionTime) {
+    public TickMonitor(double tickTime, double acquisitionTime,
+                       @NotNull AcquisitionHistogram acquisitionHistogram, @Nullable TickProfile profile) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.acquisitionHistogram = acquisitionHistogram;
+        this.profile = profile;
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, @NotNull AcquisitionHistogram acquisitionHistogram) {
+        this(tickTime, acquisitionTime, acquisitionHistogram, null);
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, AcquisitionHistogram.empty());
     }
 
     public double getTickTime() {
@@ -17,4 +33,23 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the distribution of the acquisition wait times during the tick.
+     *
+     * @return the acquisition histogram
+     */
+    public @NotNull AcquisitionHistogram getAcquisitionHistogram() {
+        return acquisitionHistogram;
+    }
+
+    /**
+     * Gets the per-phase timings of the tick.
+     *
+     * @return the tick profile, null if not profiled
+     * @see TickProfiler
+     */
+    public @Nullable TickProfile getProfile() {
+        return profile;
+    }
 }
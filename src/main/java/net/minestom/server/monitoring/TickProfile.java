@@ -0,0 +1,44 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.Tickable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timings of a single server tick.
+ *
+ * @param duration the total tick duration in nanoseconds
+ * @param phases   the duration of each phase in nanoseconds
+ * @param threads  the work of each tick thread
+ */
+public record TickProfile(long duration, @NotNull Map<TickProfiler.Phase, Long> phases,
+                          @NotNull List<ThreadProfile> threads) {
+    public TickProfile {
+        phases = Map.copyOf(phases);
+        threads = List.copyOf(threads);
+    }
+
+    public long phase(@NotNull TickProfiler.Phase phase) {
+        return phases.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * @param name            the thread name
+     * @param duration        the time spent ticking the thread partitions, in nanoseconds
+     * @param slowestElements the slowest elements of the last sampled tick, see {@link net.minestom.server.ServerFlag#PROFILER_SAMPLE_INTERVAL}
+     */
+    public record ThreadProfile(@NotNull String name, long duration, @NotNull List<ElementTiming> slowestElements) {
+        public ThreadProfile {
+            slowestElements = List.copyOf(slowestElements);
+        }
+    }
+
+    /**
+     * @param element  the ticked chunk or entity
+     * @param duration the time spent ticking it, in nanoseconds
+     */
+    public record ElementTiming(@NotNull Tickable element, long duration) {
+    }
+}
@@ -0,0 +1,147 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.thread.TickThread;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the duration of each phase of the server ticks.
+ * <p>
+ * The last {@link ServerFlag#PROFILER_HISTORY} ticks are kept in rolling histograms, per phase and per tick thread.
+ * Tick threads additionally time each of their elements every {@link ServerFlag#PROFILER_SAMPLE_INTERVAL} ticks
+ * to report the slowest ones.
+ */
+public final class TickProfiler {
+    public enum Phase {
+        /**
+         * Server scheduler.
+         */
+        SCHEDULER,
+        /**
+         * Connection manager tick, handling waiting and configuration players.
+         */
+        CONNECTION,
+        /**
+         * Instance ticks.
+         */
+        INSTANCES,
+        /**
+         * Chunk and entity ticks in the tick threads.
+         */
+        PARTITIONS,
+        /**
+         * Thread dispatcher refresh.
+         */
+        THREAD_REFRESH,
+        /**
+         * Viewable packets flush.
+         */
+        VIEWABLE_FLUSH,
+        /**
+         * Network workers wakeup.
+         */
+        WORKER_WAKEUP
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final int historySize;
+    private final RollingHistogram tickHistogram;
+    private final Map<Phase, RollingHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+    private final List<RollingHistogram> threadHistograms = new CopyOnWriteArrayList<>();
+    private volatile TickProfile lastProfile;
+
+    // Current tick, only accessed from the ticking thread
+    private final long[] phaseDurations = new long[PHASES.length];
+    private long tickStart;
+    private long phaseStart;
+
+    public TickProfiler(int historySize) {
+        this.historySize = historySize;
+        this.tickHistogram = new RollingHistogram(historySize);
+        for (Phase phase : PHASES) this.phaseHistograms.put(phase, new RollingHistogram(historySize));
+    }
+
+    public TickProfiler() {
+        this(ServerFlag.PROFILER_HISTORY);
+    }
+
+    @ApiStatus.Internal
+    public void startTick(long nanoTime) {
+        this.tickStart = nanoTime;
+        this.phaseStart = System.nanoTime();
+    }
+
+    /**
+     * Ends the current phase, the next phase starts now.
+     *
+     * @param phase the phase that just ended
+     */
+    @ApiStatus.Internal
+    public void endPhase(@NotNull Phase phase) {
+        final long time = System.nanoTime();
+        this.phaseDurations[phase.ordinal()] += time - phaseStart;
+        this.phaseStart = time;
+    }
+
+    @ApiStatus.Internal
+    public @NotNull TickProfile endTick(@NotNull List<TickThread> threads) {
+        final long duration = System.nanoTime() - tickStart;
+        this.tickHistogram.record(duration);
+        Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) {
+            final long phaseDuration = phaseDurations[phase.ordinal()];
+            phases.put(phase, phaseDuration);
+            this.phaseHistograms.get(phase).record(phaseDuration);
+            this.phaseDurations[phase.ordinal()] = 0;
+        }
+        List<TickProfile.ThreadProfile> threadProfiles = new ArrayList<>(threads.size());
+        for (int i = 0; i < threads.size(); i++) {
+            final TickThread thread = threads.get(i);
+            if (threadHistograms.size() <= i) this.threadHistograms.add(new RollingHistogram(historySize));
+            this.threadHistograms.get(i).record(thread.tickDuration());
+            threadProfiles.add(new TickProfile.ThreadProfile(thread.getName(), thread.tickDuration(), thread.slowestElements()));
+        }
+        final TickProfile profile = new TickProfile(duration, phases, threadProfiles);
+        this.lastProfile = profile;
+        return profile;
+    }
+
+    /**
+     * Gets the profile of the last tick.
+     *
+     * @return the last tick profile, null if no tick has been profiled yet
+     */
+    public @Nullable TickProfile lastProfile() {
+        return lastProfile;
+    }
+
+    public @NotNull RollingHistogram.Summary tickSummary() {
+        return tickHistogram.summary();
+    }
+
+    public @NotNull RollingHistogram.Summary phaseSummary(@NotNull Phase phase) {
+        return phaseHistograms.get(phase).summary();
+    }
+
+    /**
+     * Gets the summary of the partition work of a tick thread.
+     *
+     * @param threadNumber the {@link TickThread#number()}
+     * @return the summary of the thread durations
+     */
+    public @NotNull RollingHistogram.Summary threadSummary(int threadNumber) {
+        if (threadNumber < 0 || threadNumber >= threadHistograms.size()) {
+            return new RollingHistogram.Summary(0, 0, 0, 0);
+        }
+        return threadHistograms.get(threadNumber).summary();
+    }
+}
@@ -0,0 +1,70 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.Tickable;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.thread.ThreadDispatcher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Describes a server tick running for longer than {@link net.minestom.server.ServerFlag#WATCHDOG_THRESHOLD}.
+ *
+ * @param duration     the time since the tick started, in milliseconds
+ * @param tickerThread the name of the thread running the server tick
+ * @param tickerStack  the stack trace of the thread running the server tick
+ * @param threads      the tick threads which did not finish their tick
+ */
+public record TickStallReport(long duration, @NotNull String tickerThread, @NotNull StackTraceElement[] tickerStack,
+                              @NotNull List<ThreadStall> threads) {
+    public TickStallReport {
+        threads = List.copyOf(threads);
+    }
+
+    /**
+     * @param thread     the tick thread name
+     * @param duration   the time since the thread started its tick, in milliseconds
+     * @param stackTrace the thread stack trace
+     * @param partition  the partition being ticked, null if unknown
+     * @param element    the element being ticked, null if unknown
+     */
+    public record ThreadStall(@NotNull String thread, long duration, @NotNull StackTraceElement[] stackTrace,
+                              @Nullable ThreadDispatcher.Partition partition, @Nullable Tickable element) {
+    }
+
+    /**
+     * Formats the report for logging.
+     *
+     * @return the report description, with the stack traces
+     */
+    public @NotNull String describe() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Server tick running for ").append(duration).append("ms\n");
+        appendStack(builder, tickerThread, tickerStack);
+        for (ThreadStall stall : threads) {
+            builder.append("Tick thread ").append(stall.thread()).append(" late by ").append(stall.duration()).append("ms");
+            final ThreadDispatcher.Partition partition = stall.partition();
+            if (partition != null) {
+                for (Tickable tickable : partition.elements()) {
+                    if (tickable instanceof Chunk chunk) {
+                        builder.append(", ticking chunk ").append(chunk.getChunkX()).append(",").append(chunk.getChunkZ())
+                                .append(" of ").append(chunk.getInstance().getUniqueId());
+                        break;
+                    }
+                }
+            }
+            if (stall.element() != null) builder.append(", element ").append(stall.element());
+            builder.append('\n');
+            appendStack(builder, stall.thread(), stall.stackTrace());
+        }
+        return builder.toString();
+    }
+
+    private static void appendStack(StringBuilder builder, String thread, StackTraceElement[] stackTrace) {
+        builder.append("\"").append(thread).append("\"\n");
+        for (StackTraceElement element : stackTrace) {
+            builder.append("\tat ").append(element).append('\n');
+        }
+    }
+}
@@ -11,6 +11,7 @@ import net.minestom.server.event.player.AsyncPlayerPreLoginEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.message.Messenger;
 import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.common.KeepAlivePacket;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
 import net.minestom.server.network.packet.server.common.TagsPacket;
@@ -20,6 +21,7 @@ import net.minestom.server.network.packet.server.login.LoginSuccessPacket;
 import net.minestom.server.network.packet.server.play.StartConfigurationPacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.thread.ServerExecutors;
 import net.minestom.server.utils.StringUtils;
 import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.debug.DebugUtils;
@@ -36,7 +38,6 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Function;
 
 /**
@@ -55,18 +56,15 @@ public final class ConnectionManager {
     // Players waiting to be spawned (post configuration state)
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
     // Players in configuration state
-    private final Set<Player> configurationPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerRegistry configurationPlayers = new PlayerRegistry();
     // Players in play state
-    private final Set<Player> playPlayers = new CopyOnWriteArraySet<>();
+    private final PlayerRegistry playPlayers = new PlayerRegistry();
 
     // The players who need keep alive ticks. This was added because we may not send a keep alive in
     // the time after sending finish configuration but before receiving configuration end (to swap to play).
     // I(mattw) could not come up with a better way to express this besides completely splitting client/server
     // states. Perhaps there will be an improvement in the future.
-    private final Set<Player> keepAlivePlayers = new CopyOnWriteArraySet<>();
-
-    private final Set<Player> unmodifiableConfigurationPlayers = Collections.unmodifiableSet(configurationPlayers);
-    private final Set<Player> unmodifiablePlayPlayers = Collections.unmodifiableSet(playPlayers);
+    private final Set<Player> keepAlivePlayers = ConcurrentHashMap.newKeySet();
 
 
     // The uuid provider once a player login
@@ -74,6 +72,12 @@ public final class ConnectionManager {
     // The player provider to have your own Player implementation
     private volatile PlayerProvider playerProvider = Player::new;
 
+    private final LatencyAggregator latencyAggregator = new LatencyAggregator();
+
+    // Registry data shared by all joining players, rebuilt when a registry changes
+    private final Object registryDataLock = new Object();
+    private volatile RegistryDataCache registryDataCache;
+
     /**
      * Gets the number of "online" players, eg for the query response.
      *
@@ -87,14 +91,14 @@ public final class ConnectionManager {
      * Returns an unmodifiable set containing the players currently in the play state.
      */
     public @NotNull Collection<@NotNull Player> getOnlinePlayers() {
-        return unmodifiablePlayPlayers;
+        return playPlayers.view();
     }
 
     /**
      * Returns an unmodifiable set containing the players currently in the configuration state.
      */
     public @NotNull Collection<@NotNull Player> getConfigPlayers() {
-        return unmodifiableConfigurationPlayers;
+        return configurationPlayers.view();
     }
 
     /**
@@ -110,6 +114,18 @@ public final class ConnectionManager {
         return connectionPlayerMap.get(connection);
     }
 
+    @ApiStatus.Internal
+    public void updatePlayerUuid(@NotNull Player player, @NotNull UUID previousUuid) {
+        this.configurationPlayers.updateUuid(player, previousUuid);
+        this.playPlayers.updateUuid(player, previousUuid);
+    }
+
+    @ApiStatus.Internal
+    public void updatePlayerUsername(@NotNull Player player, @NotNull String previousUsername) {
+        this.configurationPlayers.updateUsername(player, previousUsername);
+        this.playPlayers.updateUsername(player, previousUsername);
+    }
+
     /**
      * Gets the first player in the play state which validates {@link String#equalsIgnoreCase(String)}.
      * <p>
@@ -119,11 +135,7 @@ public final class ConnectionManager {
      * @return the first player who validate the username condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUsername(@NotNull String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
-        return null;
+        return playPlayers.getByUsername(username);
     }
 
     /**
@@ -135,11 +147,17 @@ public final class ConnectionManager {
      * @return the first player who validate the UUID condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUuid(@NotNull UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
-        }
-        return null;
+        return playPlayers.getByUuid(uuid);
+    }
+
+    /**
+     * Gets the player in the play state with the given entity id.
+     *
+     * @param entityId the player entity id
+     * @return the player with the entity id, null if none was found
+     */
+    public @Nullable Player getOnlinePlayerByEntityId(int entityId) {
+        return playPlayers.getByEntityId(entityId);
     }
 
     /**
@@ -215,7 +233,7 @@ public final class ConnectionManager {
 
     @ApiStatus.Internal
     public @NotNull CompletableFuture<Void> transitionLoginToConfig(@NotNull Player player) {
-        return AsyncUtils.runAsync(() -> {
+        return AsyncUtils.runAsync(ServerExecutors.login(), () -> {
             final PlayerConnection playerConnection = player.getPlayerConnection();
 
             // Compression
@@ -262,7 +280,7 @@ public final class ConnectionManager {
         }
 
         player.getPlayerConnection().setConnectionState(ConnectionState.CONFIGURATION);
-        CompletableFuture<Void> configFuture = AsyncUtils.runAsync(() -> {
+        CompletableFuture<Void> configFuture = AsyncUtils.runAsync(ServerExecutors.login(), () -> {
             player.sendPacket(PluginMessagePacket.getBrandPacket());
 
             var event = new AsyncPlayerConfigurationEvent(player, isFirstConfig);
@@ -273,15 +291,7 @@ public final class ConnectionManager {
 
             // Registry data (if it should be sent)
             if (event.willSendRegistryData()) {
-                var registry = new HashMap<String, NBT>();
-                registry.put("minecraft:chat_type", Messenger.chatRegistry());
-                registry.put("minecraft:dimension_type", MinecraftServer.getDimensionTypeManager().toNBT());
-                registry.put("minecraft:worldgen/biome", MinecraftServer.getBiomeManager().toNBT());
-                registry.put("minecraft:damage_type", DamageType.getNBT());
-                registry.put("minecraft:trim_material", MinecraftServer.getTrimManager().getTrimMaterialNBT());
-                registry.put("minecraft:trim_pattern", MinecraftServer.getTrimManager().getTrimPatternNBT());
-                player.sendPacket(new RegistryDataPacket(NBT.Compound(registry)));
-
+                player.sendPacket(getRegistryDataPacket());
                 player.sendPacket(TagsPacket.DEFAULT_TAGS);
             }
 
@@ -296,6 +306,59 @@ public final class ConnectionManager {
         if (DebugUtils.INSIDE_TEST) configFuture.join();
     }
 
+    /**
+     * Gets the registry data sent to players during configuration.
+     * <p>
+     * The packet is framed once and shared by all players, until one of the registries changes.
+     *
+     * @return the cached registry data packet
+     */
+    @ApiStatus.Internal
+    public @NotNull CachedPacket getRegistryDataPacket() {
+        final long version = registryVersion();
+        RegistryDataCache cache = this.registryDataCache;
+        if (cache == null || cache.version() != version) {
+            synchronized (registryDataLock) {
+                cache = this.registryDataCache;
+                if (cache == null || cache.version() != version) {
+                    CachedPacket packet = new CachedPacket(createRegistryDataPacket());
+                    packet.body(ConnectionState.CONFIGURATION); // Frame before sharing
+                    cache = new RegistryDataCache(version, packet);
+                    this.registryDataCache = cache;
+                }
+            }
+        }
+        return cache.packet();
+    }
+
+    private static long registryVersion() {
+        // Versions only ever increase, any change is reflected in the sum
+        return (long) MinecraftServer.getDimensionTypeManager().version() +
+                MinecraftServer.getBiomeManager().version() +
+                MinecraftServer.getTrimManager().version();
+    }
+
+    private static @NotNull RegistryDataPacket createRegistryDataPacket() {
+        var registry = new HashMap<String, NBT>();
+        registry.put("minecraft:chat_type", Messenger.chatRegistry());
+        registry.put("minecraft:dimension_type", MinecraftServer.getDimensionTypeManager().toNBT());
+        registry.put("minecraft:worldgen/biome", MinecraftServer.getBiomeManager().toNBT());
+        registry.put("minecraft:damage_type", DamageType.getNBT());
+        registry.put("minecraft:trim_material", MinecraftServer.getTrimManager().getTrimMaterialNBT());
+        registry.put("minecraft:trim_pattern", MinecraftServer.getTrimManager().getTrimPatternNBT());
+        return new RegistryDataPacket(NBT.Compound(registry));
+    }
+
+    /**
+     * Gets the aggregator batching the latency updates of the tab list.
+     *
+     * @return the latency aggregator
+     */
+    @ApiStatus.Internal
+    public @NotNull LatencyAggregator getLatencyAggregator() {
+        return latencyAggregator;
+    }
+
     @ApiStatus.Internal
     public void transitionConfigToPlay(@NotNull Player player) {
         this.waitingPlayers.relaxedOffer(player);
@@ -316,6 +379,7 @@ public final class ConnectionManager {
         this.configurationPlayers.remove(player);
         this.playPlayers.remove(player);
         this.keepAlivePlayers.remove(player);
+        this.latencyAggregator.remove(player);
     }
 
     /**
@@ -335,8 +399,11 @@ public final class ConnectionManager {
         // Send keep alive packets
         handleKeepAlive(keepAlivePlayers, tickStart);
 
+        // Broadcast latency changes
+        latencyAggregator.tick(tickStart);
+
         // Interpret packets for configuration players
-        configurationPlayers.forEach(Player::interpretPacketQueue);
+        for (Player player : configurationPlayers.snapshot()) player.interpretPacketQueue();
     }
 
     /**
@@ -374,4 +441,7 @@ public final class ConnectionManager {
             }
         }
     }
+
+    private record RegistryDataCache(long version, @NotNull CachedPacket packet) {
+    }
 }
@@ -0,0 +1,91 @@
+package net.minestom.server.network;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.play.PlayerInfoUpdatePacket;
+import net.minestom.server.utils.PacketUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the latency changes of the online players to broadcast them in a single
+ * {@link PlayerInfoUpdatePacket} every {@link ServerFlag#LATENCY_UPDATE_INTERVAL} milliseconds.
+ * <p>
+ * Latencies differing by less than {@link ServerFlag#LATENCY_UPDATE_THRESHOLD} milliseconds
+ * from the last broadcast value are skipped.
+ */
+@ApiStatus.Internal
+public final class LatencyAggregator {
+    private static final EnumSet<PlayerInfoUpdatePacket.Action> ACTIONS = EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY);
+
+    private final Map<Player, Integer> pendingLatencies = new ConcurrentHashMap<>();
+    private final Map<Player, Integer> sentLatencies = new ConcurrentHashMap<>();
+    private long lastFlush;
+
+    /**
+     * Schedules the broadcast of a player latency.
+     *
+     * @param player  the player whose latency changed
+     * @param latency the new latency
+     */
+    public void update(@NotNull Player player, int latency) {
+        if (ServerFlag.LATENCY_UPDATE_INTERVAL <= 0) {
+            // Batching disabled
+            this.sentLatencies.put(player, latency);
+            PacketUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(ACTIONS, List.of(entry(player, latency))));
+            return;
+        }
+        this.pendingLatencies.put(player, latency);
+    }
+
+    /**
+     * Forgets a disconnected player.
+     *
+     * @param player the removed player
+     */
+    public void remove(@NotNull Player player) {
+        this.pendingLatencies.remove(player);
+        this.sentLatencies.remove(player);
+    }
+
+    /**
+     * Broadcasts the pending latencies if the update interval elapsed.
+     *
+     * @param time the current time in milliseconds
+     */
+    public void tick(long time) {
+        if (time - lastFlush < ServerFlag.LATENCY_UPDATE_INTERVAL) return;
+        this.lastFlush = time;
+        flush();
+    }
+
+    /**
+     * Broadcasts the pending latencies.
+     */
+    public void flush() {
+        if (pendingLatencies.isEmpty()) return;
+        List<PlayerInfoUpdatePacket.Entry> entries = new ArrayList<>();
+        for (Player player : pendingLatencies.keySet()) {
+            final Integer latency = pendingLatencies.remove(player);
+            if (latency == null || !player.isOnline()) continue;
+            final Integer sentLatency = sentLatencies.get(player);
+            if (sentLatency != null && Math.abs(latency - sentLatency) < ServerFlag.LATENCY_UPDATE_THRESHOLD) continue;
+            this.sentLatencies.put(player, latency);
+            entries.add(entry(player, latency));
+        }
+        if (entries.isEmpty()) return;
+        // Framed once for all the players
+        PacketUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(ACTIONS, entries));
+    }
+
+    private static PlayerInfoUpdatePacket.Entry entry(Player player, int latency) {
+        return new PlayerInfoUpdatePacket.Entry(player.getUuid(), player.getUsername(), List.of(),
+                true, latency, player.getGameMode(), null, null);
+    }
+}
@@ -0,0 +1,199 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Concurrent set of players indexed by {@link UUID}, lower-cased username and entity id.
+ * <p>
+ * Additions, removals and lookups are constant time. Iteration goes through an array snapshot
+ * which is only rebuilt after a modification, so that broadcasts do not copy or lock anything.
+ * <p>
+ * Players sharing a UUID or username are all kept, but only one of them is indexed at a time.
+ * Another one takes its place once it is removed or renamed.
+ */
+@ApiStatus.Internal
+public final class PlayerRegistry {
+    private static final Player[] EMPTY = new Player[0];
+
+    private final Set<Player> players = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Player> uuidIndex = new ConcurrentHashMap<>();
+    private final Map<String, Player> usernameIndex = new ConcurrentHashMap<>();
+    private final Map<Integer, Player> entityIdIndex = new ConcurrentHashMap<>();
+    // Players missing from an index, because another player had the same key
+    private final Set<Player> unindexed = ConcurrentHashMap.newKeySet();
+
+    private volatile Player[] snapshot = EMPTY;
+    private volatile boolean dirty;
+    private final Collection<Player> view = new View();
+
+    public boolean add(@NotNull Player player) {
+        if (!players.add(player)) return false;
+        index(player);
+        this.dirty = true;
+        return true;
+    }
+
+    public boolean remove(@NotNull Player player) {
+        if (!players.remove(player)) return false;
+        this.unindexed.remove(player);
+        unbind(uuidIndex, player.getUuid(), player, Player::getUuid);
+        unbind(usernameIndex, usernameKey(player.getUsername()), player, other -> usernameKey(other.getUsername()));
+        unbind(entityIdIndex, player.getEntityId(), player, Player::getEntityId);
+        this.dirty = true;
+        return true;
+    }
+
+    public void clear() {
+        this.players.clear();
+        this.uuidIndex.clear();
+        this.usernameIndex.clear();
+        this.entityIdIndex.clear();
+        this.unindexed.clear();
+        this.dirty = true;
+    }
+
+    /**
+     * Updates the index after a change of {@link Player#getUuid()}.
+     *
+     * @param player       the player whose UUID changed
+     * @param previousUuid the previous UUID of the player
+     */
+    public void updateUuid(@NotNull Player player, @NotNull UUID previousUuid) {
+        if (!players.contains(player)) return;
+        unbind(uuidIndex, previousUuid, player, Player::getUuid);
+        index(player);
+    }
+
+    /**
+     * Updates the index after a change of {@link Player#getUsername()}.
+     *
+     * @param player           the player whose username changed
+     * @param previousUsername the previous username of the player
+     */
+    public void updateUsername(@NotNull Player player, @NotNull String previousUsername) {
+        if (!players.contains(player)) return;
+        unbind(usernameIndex, usernameKey(previousUsername), player, other -> usernameKey(other.getUsername()));
+        index(player);
+    }
+
+    public boolean contains(@NotNull Player player) {
+        return players.contains(player);
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    public @Nullable Player getByUuid(@NotNull UUID uuid) {
+        return uuidIndex.get(uuid);
+    }
+
+    /**
+     * Gets a player by its username, ignoring case.
+     *
+     * @param username the player username
+     * @return the player with the username, null if not found
+     */
+    public @Nullable Player getByUsername(@NotNull String username) {
+        return usernameIndex.get(usernameKey(username));
+    }
+
+    public @Nullable Player getByEntityId(int entityId) {
+        return entityIdIndex.get(entityId);
+    }
+
+    /**
+     * Gets the players at the time of the last modification.
+     * <p>
+     * The array is shared and must not be modified.
+     *
+     * @return the players snapshot
+     */
+    public @NotNull Player[] snapshot() {
+        if (dirty) {
+            synchronized (this) {
+                if (dirty) {
+                    // Reset first, a concurrent modification will mark it again
+                    this.dirty = false;
+                    this.snapshot = players.toArray(EMPTY);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets an unmodifiable collection backed by this registry, iterating over {@link #snapshot()}.
+     *
+     * @return the players view
+     */
+    public @NotNull Collection<Player> view() {
+        return view;
+    }
+
+    private void index(Player player) {
+        // Non short-circuit, each index must be tried
+        final boolean indexed = bind(uuidIndex, player.getUuid(), player) &
+                bind(usernameIndex, usernameKey(player.getUsername()), player) &
+                bind(entityIdIndex, player.getEntityId(), player);
+        if (indexed) this.unindexed.remove(player);
+        else this.unindexed.add(player);
+    }
+
+    private static <K> boolean bind(Map<K, Player> index, K key, Player player) {
+        final Player previous = index.putIfAbsent(key, player);
+        return previous == null || previous == player;
+    }
+
+    private <K> void unbind(Map<K, Player> index, K key, Player player, Function<Player, K> keyFunction) {
+        if (!index.remove(key, player) || unindexed.isEmpty()) return;
+        // Give the key to another player sharing it
+        for (Player other : unindexed) {
+            if (key.equals(keyFunction.apply(other)) && players.contains(other)) {
+                index(other);
+                if (index.get(key) == other) return;
+            }
+        }
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private final class View extends AbstractCollection<Player> {
+        @Override
+        public @NotNull Iterator<Player> iterator() {
+            return Arrays.asList(snapshot()).iterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super Player> action) {
+            for (Player player : snapshot()) action.accept(player);
+        }
+
+        @Override
+        public int size() {
+            return snapshot().length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            // Same source as size() and the iterator
+            return snapshot().length == 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            // Constant time lookup, may already see a modification not in the snapshot yet
+            return o instanceof Player player && players.contains(player);
+        }
+    }
+}
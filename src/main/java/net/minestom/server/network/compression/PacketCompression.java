@@ -0,0 +1,179 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.TagsPacket;
+import net.minestom.server.network.packet.server.configuration.RegistryDataPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.DeclareRecipesPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Handles the zlib compression of packets.
+ * <p>
+ * Every thread (network workers, tick threads, compression helpers) owns a reusable {@link Inflater}
+ * and one {@link Deflater} per used level, they are never allocated per packet.
+ * <p>
+ * The deflate level depends on the packet type: large packets generally framed once and cached
+ * (chunks, registries, tags...) use {@link ServerFlag#CACHED_COMPRESSION_LEVEL}, everything else
+ * uses the faster {@link ServerFlag#COMPRESSION_LEVEL}.
+ * <p>
+ * Large packets compressed from a network worker can be offloaded to a small bounded pool
+ * (see {@link #offload(Runnable)}) to avoid stalling the selector loop.
+ */
+public final class PacketCompression {
+    private static final ThreadLocal<Context> LOCAL_CONTEXT = ThreadLocal.withInitial(Context::new);
+    private static final Map<Class<?>, Integer> LEVELS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger OFFLOAD_COUNTER = new AtomicInteger();
+    private static final ThreadPoolExecutor OFFLOAD_EXECUTOR = createOffloadExecutor();
+
+    static {
+        setLevel(ChunkDataPacket.class, ServerFlag.CACHED_COMPRESSION_LEVEL);
+        setLevel(RegistryDataPacket.class, ServerFlag.CACHED_COMPRESSION_LEVEL);
+        setLevel(TagsPacket.class, ServerFlag.CACHED_COMPRESSION_LEVEL);
+        setLevel(DeclareRecipesPacket.class, ServerFlag.CACHED_COMPRESSION_LEVEL);
+    }
+
+    private PacketCompression() {
+    }
+
+    /**
+     * Changes the deflate level used for a packet type.
+     *
+     * @param packetType the packet type
+     * @param level      the deflate level, between {@link Deflater#DEFAULT_COMPRESSION} and {@link Deflater#BEST_COMPRESSION}
+     */
+    public static void setLevel(@NotNull Class<? extends ServerPacket> packetType, int level) {
+        Check.argCondition(level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION,
+                "Invalid compression level: " + level);
+        LEVELS.put(packetType, level);
+    }
+
+    /**
+     * Gets the deflate level used for a packet.
+     *
+     * @param packet the packet to compress
+     * @return the deflate level of the packet type
+     */
+    public static int level(@NotNull Object packet) {
+        return level(packet.getClass());
+    }
+
+    /**
+     * Gets the deflate level used for a packet type.
+     *
+     * @param packetType the packet type
+     * @return the deflate level of the packet type
+     */
+    public static int level(@NotNull Class<?> packetType) {
+        return LEVELS.getOrDefault(packetType, ServerFlag.COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Compresses {@code input} into {@code output} using the current thread deflater.
+     *
+     * @param input  the data to compress, from its position to its limit
+     * @param output the buffer to write the compressed data to, starting at its position
+     * @param level  the deflate level
+     * @return the number of compressed bytes written
+     * @throws IllegalArgumentException if the compressed data does not fit in {@code output}
+     */
+    @ApiStatus.Internal
+    public static int deflate(@NotNull ByteBuffer input, @NotNull ByteBuffer output, int level) {
+        Deflater deflater = LOCAL_CONTEXT.get().deflater(level);
+        deflater.setInput(input);
+        deflater.finish();
+        final int count = deflater.deflate(output);
+        final boolean finished = deflater.finished();
+        deflater.reset();
+        Check.argCondition(!finished, "Compressed packet is too large for the output buffer");
+        return count;
+    }
+
+    /**
+     * Decompresses {@code input} into {@code output} using the current thread inflater.
+     *
+     * @param input  the compressed data, from its position to its limit
+     * @param output the buffer to write the decompressed data to, starting at its position
+     * @throws DataFormatException if the compressed data is invalid
+     */
+    @ApiStatus.Internal
+    public static void inflate(@NotNull ByteBuffer input, @NotNull ByteBuffer output) throws DataFormatException {
+        Inflater inflater = LOCAL_CONTEXT.get().inflater;
+        try {
+            inflater.setInput(input);
+            inflater.inflate(output);
+        } finally {
+            inflater.reset();
+        }
+    }
+
+    /**
+     * Gets if a packet should be compressed outside the network worker.
+     *
+     * @param packetSize the uncompressed packet size
+     * @return true if the packet is large enough to be offloaded
+     */
+    @ApiStatus.Internal
+    public static boolean shouldOffload(int packetSize) {
+        final int threshold = ServerFlag.COMPRESSION_OFFLOAD_THRESHOLD;
+        return threshold > 0 && packetSize >= threshold;
+    }
+
+    /**
+     * Runs a compression task in the helper pool.
+     *
+     * @param task the compression task
+     * @return false if the pool is saturated, in which case the task should be run by the caller
+     */
+    @ApiStatus.Internal
+    public static boolean offload(@NotNull Runnable task) {
+        try {
+            OFFLOAD_EXECUTOR.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static ThreadPoolExecutor createOffloadExecutor() {
+        final int threads = Math.max(1, ServerFlag.COMPRESSION_THREADS);
+        // Threads are never timed out, they would take their thread-local deflaters with them
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ServerFlag.COMPRESSION_QUEUE_SIZE)), runnable -> {
+            Thread thread = new Thread(runnable, "Ms-compression-" + OFFLOAD_COUNTER.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Context {
+        private final Inflater inflater = new Inflater();
+        // Indexed by level + 1, lazily created
+        private final Deflater[] deflaters = new Deflater[Deflater.BEST_COMPRESSION + 2];
+
+        private Deflater deflater(int level) {
+            Deflater deflater = deflaters[level + 1];
+            if (deflater == null) {
+                deflater = new Deflater(level);
+                this.deflaters[level + 1] = deflater;
+            }
+            return deflater;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package net.minestom.server.network.packet.server;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Metadata;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.compression.PacketCompression;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes framed play packets straight from primitive values, without allocating the packet records.
+ * <p>
+ * Meant for the packets sent for every moving entity at every tick (movements, rotations, velocity...).
+ * The written bytes are identical to the ones produced by {@link PacketUtils#writeFramedPacket(ByteBuffer, int, NetworkBuffer.Writer, int)}
+ * using the current {@link MinecraftServer#getCompressionThreshold() compression threshold}.
+ * <p>
+ * All methods write at the position of the buffer and advance it.
+ */
+@ApiStatus.Experimental
+public final class DirectPacketEncoder {
+    private static final int SCRATCH_SIZE = 256;
+    private static final ThreadLocal<ByteBuffer> LOCAL_SCRATCH = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(SCRATCH_SIZE));
+
+    private DirectPacketEncoder() {
+    }
+
+    /**
+     * Gets a cleared buffer owned by the current thread, large enough for a few of the fixed-size packets of this class.
+     * <p>
+     * The content must be consumed before the next call from the same thread.
+     *
+     * @return the thread scratch buffer
+     */
+    public static @NotNull ByteBuffer scratch() {
+        return LOCAL_SCRATCH.get().clear();
+    }
+
+    /**
+     * Computes the delta of a coordinate as sent in relative move packets.
+     *
+     * @param newCoordinate the new coordinate
+     * @param oldCoordinate the previous coordinate
+     * @return the encoded delta
+     */
+    public static short delta(double newCoordinate, double oldCoordinate) {
+        return (short) ((newCoordinate * 32 - oldCoordinate * 32) * 128);
+    }
+
+    public static void writeEntityPosition(@NotNull ByteBuffer buffer, int entityId,
+                                           short deltaX, short deltaY, short deltaZ, boolean onGround) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_POSITION);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.putShort(deltaX).putShort(deltaY).putShort(deltaZ);
+        buffer.put(bool(onGround));
+        end(buffer, start, EntityPositionPacket.class);
+    }
+
+    public static void writeEntityPositionAndRotation(@NotNull ByteBuffer buffer, int entityId,
+                                                      short deltaX, short deltaY, short deltaZ,
+                                                      float yaw, float pitch, boolean onGround) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_POSITION_AND_ROTATION);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.putShort(deltaX).putShort(deltaY).putShort(deltaZ);
+        buffer.put(angle(yaw)).put(angle(pitch));
+        buffer.put(bool(onGround));
+        end(buffer, start, EntityPositionAndRotationPacket.class);
+    }
+
+    public static void writeEntityRotation(@NotNull ByteBuffer buffer, int entityId,
+                                           float yaw, float pitch, boolean onGround) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_ROTATION);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.put(angle(yaw)).put(angle(pitch));
+        buffer.put(bool(onGround));
+        end(buffer, start, EntityRotationPacket.class);
+    }
+
+    public static void writeEntityHeadLook(@NotNull ByteBuffer buffer, int entityId, float yaw) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_HEAD_LOOK);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.put(angle(yaw));
+        end(buffer, start, EntityHeadLookPacket.class);
+    }
+
+    public static void writeEntityTeleport(@NotNull ByteBuffer buffer, int entityId,
+                                           double x, double y, double z, float yaw, float pitch, boolean onGround) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_TELEPORT);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.putDouble(x).putDouble(y).putDouble(z);
+        buffer.put(angle(yaw)).put(angle(pitch));
+        buffer.put(bool(onGround));
+        end(buffer, start, EntityTeleportPacket.class);
+    }
+
+    public static void writeEntityVelocity(@NotNull ByteBuffer buffer, int entityId,
+                                           short velocityX, short velocityY, short velocityZ) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_VELOCITY);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.putShort(velocityX).putShort(velocityY).putShort(velocityZ);
+        end(buffer, start, EntityVelocityPacket.class);
+    }
+
+    /**
+     * Writes a metadata packet containing a single entry.
+     * <p>
+     * Entry values are arbitrary types (items, components...) and are still written through a {@link NetworkBuffer}.
+     * Translatable components are not translated, use {@link EntityMetaDataPacket} for those.
+     */
+    public static void writeEntityMetadata(@NotNull ByteBuffer buffer, int entityId,
+                                           int index, @NotNull Metadata.Entry<?> entry) {
+        final int start = begin(buffer, ServerPacketIdentifier.ENTITY_METADATA);
+        Utils.writeVarInt(buffer, entityId);
+        buffer.put((byte) index);
+        NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
+        networkBuffer.write(entry);
+        buffer.position(networkBuffer.writeIndex());
+        buffer.put((byte) 0xFF); // End
+        end(buffer, start, EntityMetaDataPacket.class);
+    }
+
+    private static int begin(ByteBuffer buffer, int packetId) {
+        final int start = buffer.position();
+        // Packet length (+ Data length when compressed)
+        buffer.position(start + (MinecraftServer.getCompressionThreshold() > 0 ? 6 : 3));
+        Utils.writeVarInt(buffer, packetId);
+        return start;
+    }
+
+    private static void end(ByteBuffer buffer, int start, Class<? extends ServerPacket> packetType) {
+        final int compressionThreshold = MinecraftServer.getCompressionThreshold();
+        if (compressionThreshold <= 0) {
+            // Uncompressed format https://wiki.vg/Protocol#Without_compression
+            Utils.writeVarIntHeader(buffer, start, buffer.position() - (start + 3));
+            return;
+        }
+        // Compressed format https://wiki.vg/Protocol#With_compression
+        final int packetSize = buffer.position() - (start + 6);
+        PacketUtils.writeCompressedFrame(buffer, start, packetSize, compressionThreshold, PacketCompression.level(packetType));
+    }
+
+    private static byte angle(float angle) {
+        return (byte) (angle * 256 / 360);
+    }
+
+    private static byte bool(boolean value) {
+        return (byte) (value ? 1 : 0);
+    }
+}
@@ -0,0 +1,63 @@
+package net.minestom.server.network.packet.server;
+
+import net.minestom.server.adventure.MinestomAdventure;
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Translates a {@link ComponentHoldingServerPacket} once per locale, the translated packets are
+ * {@link CachedPacket cached} so that players sharing a locale also share the framed bytes.
+ * <p>
+ * Meant to be used for the duration of a single broadcast, not thread-safe.
+ */
+@ApiStatus.Internal
+public final class LocalizedPacketCache {
+    private final ComponentHoldingServerPacket packet;
+    private final Map<Locale, CachedPacket> packets = new HashMap<>();
+
+    public LocalizedPacketCache(@NotNull ComponentHoldingServerPacket packet) {
+        this.packet = packet;
+    }
+
+    /**
+     * Gets the packet translated to the locale of a player.
+     *
+     * @param player the player receiving the packet
+     * @return the cached translated packet
+     */
+    public @NotNull CachedPacket packet(@NotNull Player player) {
+        return packet(Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale));
+    }
+
+    /**
+     * Gets the packet translated to a locale.
+     *
+     * @param locale the locale to translate to
+     * @return the cached translated packet
+     */
+    public @NotNull CachedPacket packet(@NotNull Locale locale) {
+        CachedPacket cachedPacket = packets.get(locale);
+        if (cachedPacket == null) {
+            final ServerPacket translated = packet.copyWithOperator(component ->
+                    MinestomAdventure.COMPONENT_TRANSLATOR.apply(component, locale));
+            cachedPacket = new CachedPacket(translated);
+            this.packets.put(locale, cachedPacket);
+        }
+        return cachedPacket;
+    }
+
+    /**
+     * Gets the number of distinct locales the packet has been translated to.
+     *
+     * @return the number of translated packets
+     */
+    public int size() {
+        return packets.size();
+    }
+}
@@ -1,6 +1,8 @@
 package net.minestom.server.network.player;
 
+import net.kyori.adventure.text.Component;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
@@ -9,16 +11,19 @@ import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.compression.PacketCompression;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.network.socket.Worker;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedXaddArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +40,8 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SocketChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.DataFormatException;
 
@@ -47,9 +54,14 @@ import java.util.zip.DataFormatException;
 public class PlayerSocketConnection extends PlayerConnection {
     private final static Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
     private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
-
-    private final Worker worker;
-    private final MessagePassingQueue<Runnable> workerQueue;
+    private static final Component SLOW_CONNECTION_REASON = Component.text("Your connection is too slow to keep up with the server");
+    // Number of connections above their soft limit
+    private static final AtomicInteger CONGESTED_CONNECTIONS = new AtomicInteger();
+
+    private volatile Worker worker;
+    private volatile MessagePassingQueue<Runnable> workerQueue;
+    // Number of threads currently offering to the worker queue, used when moving to another worker
+    private final AtomicInteger offering = new AtomicInteger();
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
 
@@ -73,6 +85,19 @@ public class PlayerSocketConnection extends PlayerConnection {
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
     private BinaryBuffer cacheBuffer;
+    private BinaryBuffer[] flushBuffers = new BinaryBuffer[4];
+    private ByteBuffer[] flushNioBuffers = new ByteBuffer[4];
+    // Offloaded compressions and the writes waiting for them to complete (to keep packet order)
+    // Only accessed from the worker thread
+    private final ArrayDeque<Object> pendingWrites = new ArrayDeque<>();
+
+    // Outbound backpressure, counters are only written from the worker thread
+    private volatile long softLimit = ServerFlag.OUTBOUND_SOFT_LIMIT;
+    private volatile long hardLimit = ServerFlag.OUTBOUND_HARD_LIMIT;
+    private volatile long queuedBytes;
+    private volatile boolean congested;
+    private final AtomicLong droppedPackets = new AtomicLong();
+    private boolean overflowed;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
@@ -157,21 +182,21 @@ public class PlayerSocketConnection extends PlayerConnection {
     @Override
     public void sendPacket(@NotNull SendablePacket packet) {
         final boolean compressed = this.compressed;
-        this.workerQueue.relaxedOffer(() -> writePacketSync(packet, compressed));
+        offer(() -> writePacketSync(packet, compressed));
     }
 
     @Override
     public void sendPackets(@NotNull Collection<SendablePacket> packets) {
         final List<SendablePacket> packetsCopy = List.copyOf(packets);
         final boolean compressed = this.compressed;
-        this.workerQueue.relaxedOffer(() -> {
+        offer(() -> {
             for (SendablePacket packet : packetsCopy) writePacketSync(packet, compressed);
         });
     }
 
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer, int index, int length) {
-        this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
+        offer(() -> writeBufferSync(buffer, index, length));
     }
 
     @ApiStatus.Internal
@@ -179,6 +204,59 @@ public class PlayerSocketConnection extends PlayerConnection {
         write(buffer, buffer.position(), buffer.remaining());
     }
 
+    /**
+     * Gets the worker currently handling this connection.
+     *
+     * @return the connection worker
+     */
+    @ApiStatus.Internal
+    public @NotNull Worker worker() {
+        return worker;
+    }
+
+    /**
+     * Moves this connection to another worker.
+     * <p>
+     * Packets keep their order: writes still reaching the previous worker are processed there
+     * before the connection is handed over, and writes made during the handoff are buffered
+     * until the new worker takes ownership.
+     *
+     * @param target the new worker
+     */
+    @ApiStatus.Internal
+    public void migrate(@NotNull Worker target) {
+        offer(() -> {
+            final Worker source = this.worker;
+            if (source == target || !channel.isOpen() || !isOnline()) return;
+            final MpscUnboundedXaddArrayQueue<Runnable> handoff = new MpscUnboundedXaddArrayQueue<>(64);
+            switchQueue(handoff);
+            // Every write which may have reached the source queue is before this task
+            source.queue().relaxedOffer(() -> {
+                source.detach(this, channel);
+                this.worker = target;
+                target.queue().relaxedOffer(() -> {
+                    target.attach(this, channel);
+                    switchQueue(target.queue());
+                    handoff.drain(Runnable::run);
+                });
+                target.tick();
+            });
+        });
+    }
+
+    private void offer(Runnable task) {
+        final AtomicInteger offering = this.offering;
+        offering.incrementAndGet();
+        this.workerQueue.relaxedOffer(task);
+        offering.decrementAndGet();
+    }
+
+    private void switchQueue(MessagePassingQueue<Runnable> queue) {
+        this.workerQueue = queue;
+        // Wait for the threads which may still be offering to the previous queue
+        while (offering.get() != 0) Thread.onSpinWait();
+    }
+
     @Override
     public @NotNull SocketAddress getRemoteAddress() {
         return remoteAddress;
@@ -196,15 +274,90 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.remoteAddress = remoteAddress;
     }
 
+    /**
+     * Gets the number of bytes waiting to be sent to the client.
+     *
+     * @return the number of queued outbound bytes
+     */
+    public long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    /**
+     * Gets the number of low-priority packets dropped because the soft limit was reached.
+     *
+     * @return the number of dropped packets
+     */
+    public long getDroppedPackets() {
+        return droppedPackets.get();
+    }
+
+    /**
+     * Gets if the number of queued bytes is above the soft limit, in which case low-priority packets are dropped.
+     *
+     * @return true if the connection is congested
+     */
+    public boolean isCongested() {
+        return congested;
+    }
+
+    /**
+     * Counts a low-priority packet which has not been sent to this connection because it is congested.
+     */
+    @ApiStatus.Internal
+    public void dropPacket() {
+        this.droppedPackets.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of connections above their soft limit.
+     *
+     * @return the number of congested connections
+     */
+    @ApiStatus.Internal
+    public static int congestedConnections() {
+        return CONGESTED_CONNECTIONS.get();
+    }
+
+    /**
+     * Changes the outbound limits of this connection.
+     * <p>
+     * Above the soft limit, low-priority packets (particles, sounds, movement of far entities) are dropped.
+     * Above the hard limit, the connection is closed.
+     *
+     * @param softLimit the soft limit in bytes, 0 to disable
+     * @param hardLimit the hard limit in bytes, 0 to disable
+     */
+    public void setOutboundLimits(long softLimit, long hardLimit) {
+        Check.argCondition(softLimit < 0 || hardLimit < 0, "Limits cannot be negative");
+        this.softLimit = softLimit;
+        this.hardLimit = hardLimit;
+    }
+
+    public long getSoftLimit() {
+        return softLimit;
+    }
+
+    public long getHardLimit() {
+        return hardLimit;
+    }
+
     @Override
     public void disconnect() {
         super.disconnect();
-        this.workerQueue.relaxedOffer(() -> {
+        offer(() -> {
             this.worker.disconnect(this, channel);
             final BinaryBuffer tick = tickBuffer.getAndSet(null);
             if (tick != null) POOL.add(tick);
             for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
             this.waitingBuffers.clear();
+            for (Object pending : pendingWrites) {
+                if (pending instanceof BinaryBuffer buffer) POOL.add(buffer);
+                else if (pending instanceof PendingCompression compression && compression.frame != null)
+                    ObjectPool.PACKET_POOL.add(compression.frame);
+            }
+            this.pendingWrites.clear();
+            setQueuedBytes(0);
         });
     }
 
@@ -336,6 +489,11 @@ public class PlayerSocketConnection extends PlayerConnection {
     private void writePacketSync(SendablePacket packet, boolean compressed) {
         if (!channel.isConnected()) return;
         final Player player = getPlayer();
+        // Backpressure, the movement of far entities is dropped when aggregated (see ViewablePacketAggregator)
+        if (congested && isLowPriority(SendablePacket.extractServerPacket(getConnectionState(), packet))) {
+            dropPacket();
+            return;
+        }
         // Outgoing event
         if (player != null && outgoing.hasListener()) {
             final ServerPacket serverPacket = SendablePacket.extractServerPacket(getConnectionState(), packet);
@@ -368,13 +526,128 @@ public class PlayerSocketConnection extends PlayerConnection {
                         MinestomAdventure.COMPONENT_TRANSLATOR.apply(component, Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale)));
             }
         }
+        if (compressed) {
+            writeCompressedPacketSync(serverPacket);
+            return;
+        }
         try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            var buffer = PacketUtils.createFramedPacket(getConnectionState(), hold.get(), serverPacket, compressed);
+            var buffer = PacketUtils.createFramedPacket(getConnectionState(), hold.get(), serverPacket, false);
             writeBufferSync(buffer, 0, buffer.limit());
         }
     }
 
+    private void writeCompressedPacketSync(ServerPacket serverPacket) {
+        final int threshold = MinecraftServer.getCompressionThreshold();
+        final int level = PacketCompression.level(serverPacket);
+        final ByteBuffer buffer = ObjectPool.PACKET_POOL.get();
+        final int packetSize;
+        try {
+            packetSize = PacketUtils.writePacketContent(getConnectionState(), buffer, serverPacket);
+        } catch (Throwable t) {
+            ObjectPool.PACKET_POOL.add(buffer);
+            throw t;
+        }
+        if (packetSize >= threshold && PacketCompression.shouldOffload(packetSize)) {
+            // Compress outside the worker, later writes are delayed until completion
+            final PendingCompression pending = new PendingCompression();
+            this.pendingWrites.add(pending);
+            final boolean offloaded = PacketCompression.offload(() -> {
+                try {
+                    PacketUtils.writeCompressedFrame(buffer, 0, packetSize, threshold, level);
+                } catch (Throwable t) {
+                    ObjectPool.PACKET_POOL.add(buffer);
+                    offer(() -> failCompression(pending, t));
+                    this.worker.tick();
+                    return;
+                }
+                offer(() -> completeCompression(pending, buffer.flip()));
+                this.worker.tick();
+            });
+            if (!offloaded) {
+                // Helper pool is saturated
+                try {
+                    PacketUtils.writeCompressedFrame(buffer, 0, packetSize, threshold, level);
+                } catch (Throwable t) {
+                    ObjectPool.PACKET_POOL.add(buffer);
+                    failCompression(pending, t);
+                    return;
+                }
+                completeCompression(pending, buffer.flip());
+            }
+            return;
+        }
+        try {
+            PacketUtils.writeCompressedFrame(buffer, 0, packetSize, threshold, level);
+            buffer.flip();
+            writeBufferSync(buffer, 0, buffer.limit());
+        } finally {
+            ObjectPool.PACKET_POOL.add(buffer);
+        }
+    }
+
+    private void completeCompression(PendingCompression pending, ByteBuffer frame) {
+        if (tickBuffer.getPlain() == null) {
+            // Socket is closed
+            ObjectPool.PACKET_POOL.add(frame);
+            return;
+        }
+        pending.frame = frame;
+        writePendingSync();
+    }
+
+    private void failCompression(PendingCompression pending, Throwable throwable) {
+        // The packet is dropped, the writes waiting for it must not stay blocked
+        MinecraftServer.getExceptionManager().handleException(throwable);
+        this.pendingWrites.remove(pending);
+        if (tickBuffer.getPlain() == null) return; // Socket is closed
+        writePendingSync();
+    }
+
+    private void writePendingSync() {
+        // Write everything that was waiting for the compression, in order
+        final ArrayDeque<Object> pendingWrites = this.pendingWrites;
+        Object entry;
+        while ((entry = pendingWrites.peek()) != null) {
+            if (entry instanceof PendingCompression compression) {
+                final ByteBuffer compressedFrame = compression.frame;
+                if (compressedFrame == null) break; // Still being compressed
+                pendingWrites.poll();
+                encryptBufferSync(compressedFrame, 0, compressedFrame.limit());
+                ObjectPool.PACKET_POOL.add(compressedFrame);
+            } else {
+                final BinaryBuffer deferred = (BinaryBuffer) entry;
+                pendingWrites.poll();
+                setQueuedBytes(queuedBytes - deferred.writerOffset());
+                encryptBufferSync(deferred.asByteBuffer(0, deferred.writerOffset()), 0, deferred.writerOffset());
+                POOL.add(deferred);
+            }
+        }
+    }
+
     private void writeBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
+        if (!pendingWrites.isEmpty()) {
+            deferBufferSync(buffer, index, length);
+            return;
+        }
+        encryptBufferSync(buffer, index, length);
+    }
+
+    private void deferBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
+        BinaryBuffer deferred = pendingWrites.peekLast() instanceof BinaryBuffer last ? last : null;
+        while (length > 0) {
+            if (deferred == null || !deferred.canWrite(1)) {
+                deferred = POOL.get();
+                this.pendingWrites.add(deferred);
+            }
+            final int sliceLength = Math.min(length, deferred.capacity() - deferred.writerOffset() - 1);
+            deferred.write(buffer, index, sliceLength);
+            setQueuedBytes(queuedBytes + sliceLength);
+            index += sliceLength;
+            length -= sliceLength;
+        }
+    }
+
+    private void encryptBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
         // Encrypt data
         final EncryptionContext encryptionContext = this.encryptionContext;
         if (encryptionContext != null) { // Encryption support
@@ -396,6 +669,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
+        setQueuedBytes(queuedBytes + length);
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
             if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
@@ -412,9 +686,95 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     public void flushSync() throws IOException {
+        if (!channel.isConnected()) throw new ClosedChannelException();
+        if (ServerFlag.GATHERING_WRITE) {
+            flushGathering();
+        } else {
+            flushSequential();
+        }
+        updateQueuedBytes();
+    }
+
+    private void updateQueuedBytes() {
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return; // Socket is closed
+        long queued = localBuffer.readableBytes();
+        for (BinaryBuffer buffer : waitingBuffers) queued += buffer.readableBytes();
+        for (Object pending : pendingWrites) {
+            if (pending instanceof BinaryBuffer buffer) queued += buffer.readableBytes();
+        }
+        setQueuedBytes(queued);
+    }
+
+    private void setQueuedBytes(long queuedBytes) {
+        this.queuedBytes = queuedBytes;
+        final long softLimit = this.softLimit;
+        final boolean congested = softLimit > 0 && queuedBytes >= softLimit;
+        if (congested != this.congested) {
+            this.congested = congested;
+            CONGESTED_CONNECTIONS.addAndGet(congested ? 1 : -1);
+        }
+        checkHardLimit();
+    }
+
+    private void checkHardLimit() {
+        final long hardLimit = this.hardLimit;
+        if (hardLimit <= 0 || queuedBytes < hardLimit || overflowed) return;
+        this.overflowed = true;
+        LOGGER.warn("Connection {} exceeded its outbound limit ({} bytes queued), disconnecting", remoteAddress, queuedBytes);
+        final Player player = getPlayer();
+        if (player != null) {
+            player.kick(SLOW_CONNECTION_REASON);
+        } else {
+            disconnect();
+        }
+    }
+
+    private static boolean isLowPriority(@NotNull ServerPacket packet) {
+        return packet instanceof ParticlePacket || packet instanceof SoundEffectPacket ||
+                packet instanceof EntitySoundEffectPacket;
+    }
+
+    /**
+     * Writes all the waiting buffers and the current tick buffer using a single gathering write.
+     */
+    private void flushGathering() throws IOException {
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return; // Socket is closed
+        final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
+        final int waitingCount = waitingBuffers.size();
+        final int length = waitingCount + 1;
+        BinaryBuffer[] buffers = this.flushBuffers;
+        ByteBuffer[] nioBuffers = this.flushNioBuffers;
+        if (buffers.length < length) {
+            buffers = new BinaryBuffer[Math.max(length, buffers.length * 2)];
+            nioBuffers = new ByteBuffer[buffers.length];
+            this.flushBuffers = buffers;
+            this.flushNioBuffers = nioBuffers;
+        }
+        for (int i = 0; i < waitingCount; i++) buffers[i] = waitingBuffers.get(i);
+        buffers[waitingCount] = localBuffer;
+        try {
+            final int written = BinaryBuffer.writeChannel(channel, buffers, nioBuffers, length);
+            // Return the fully written buffers to the pool
+            final int drained = Math.min(written, waitingCount);
+            if (drained > 0) {
+                for (int i = 0; i < drained; i++) POOL.add(buffers[i]);
+                waitingBuffers.subList(0, drained).clear();
+            }
+            // Everything has been sent, the tick buffer can be reused from the start
+            if (written == length) localBuffer.clear();
+        } finally {
+            Arrays.fill(buffers, 0, length, null);
+            Arrays.fill(nioBuffers, 0, length, null);
+        }
+    }
+
+    private void flushSequential() throws IOException {
         final SocketChannel channel = this.channel;
         final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
-        if (!channel.isConnected()) throw new ClosedChannelException();
         if (waitingBuffers.isEmpty()) {
             BinaryBuffer localBuffer = tickBuffer.getPlain();
             if (localBuffer == null)
@@ -441,4 +801,8 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
     }
+
+    private static final class PendingCompression {
+        private ByteBuffer frame;
+    }
 }
@@ -2,7 +2,11 @@ package net.minestom.server.network.socket;
 
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
+import net.minestom.server.entity.Player;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.thread.TickThread;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,6 +17,7 @@ import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,25 +27,32 @@ public final class Server {
 
     private volatile boolean stop;
 
-    private final Selector selector = Selector.open();
     private final PacketProcessor packetProcessor;
     private final List<Worker> workers;
-    private int index;
+    private final List<Acceptor> acceptors = new ArrayList<>();
+    private volatile WorkerAssignment workerAssignment = WorkerAssignment.roundRobin();
 
-    private ServerSocketChannel serverSocket;
     private SocketAddress socketAddress;
     private String address;
     private int port;
 
     public Server(PacketProcessor packetProcessor) throws IOException {
+        this(packetProcessor, ServerFlag.WORKER_COUNT);
+    }
+
+    Server(PacketProcessor packetProcessor, int workerCount) {
         this.packetProcessor = packetProcessor;
-        Worker[] workers = new Worker[ServerFlag.WORKER_COUNT];
+        Worker[] workers = new Worker[workerCount];
         Arrays.setAll(workers, value -> new Worker(this));
         this.workers = List.of(workers);
     }
 
     @ApiStatus.Internal
     public void init(SocketAddress address) throws IOException {
+        init(address, ServerFlag.ACCEPTOR_COUNT);
+    }
+
+    void init(SocketAddress address, int acceptorCount) throws IOException {
         ProtocolFamily family;
         if (address instanceof InetSocketAddress inetSocketAddress) {
             this.address = inetSocketAddress.getHostString();
@@ -55,40 +67,64 @@ public final class Server {
         }
 
         ServerSocketChannel server = ServerSocketChannel.open(family);
+        final boolean sharded = acceptorCount > 1 && family != StandardProtocolFamily.UNIX &&
+                server.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+        if (sharded) server.setOption(StandardSocketOptions.SO_REUSEPORT, true);
         server.bind(address);
-        server.configureBlocking(false);
-        server.register(selector, SelectionKey.OP_ACCEPT);
-        this.serverSocket = server;
         this.socketAddress = address;
 
         if (address instanceof InetSocketAddress && port == 0) {
             port = server.socket().getLocalPort();
         }
+
+        registerAcceptor(server);
+        if (sharded) {
+            // Each acceptor gets its own socket, the kernel balances incoming connections between them
+            final SocketAddress boundAddress = server.getLocalAddress();
+            for (int i = 1; i < acceptorCount; i++) {
+                ServerSocketChannel shard = ServerSocketChannel.open(family);
+                shard.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+                shard.bind(boundAddress);
+                registerAcceptor(shard);
+            }
+        }
+    }
+
+    private void registerAcceptor(ServerSocketChannel channel) throws IOException {
+        Selector selector = Selector.open();
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_ACCEPT);
+        this.acceptors.add(new Acceptor(channel, selector));
     }
 
     @ApiStatus.Internal
     public void start() {
         this.workers.forEach(Thread::start);
-        new Thread(() -> {
-            while (!stop) {
-                // Busy wait for connections
-                try {
-                    this.selector.select(key -> {
-                        if (!key.isAcceptable()) return;
-                        try {
-                            // Register socket and forward to thread
-                            Worker worker = findWorker();
-                            final SocketChannel client = serverSocket.accept();
-                            worker.receiveConnection(client);
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    });
-                } catch (IOException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
+        for (int i = 0; i < acceptors.size(); i++) {
+            final Acceptor acceptor = acceptors.get(i);
+            final String name = i == 0 ? "Ms-entrypoint" : "Ms-entrypoint-" + i;
+            new Thread(() -> {
+                while (!stop) {
+                    // Busy wait for connections
+                    try {
+                        acceptor.selector().select(key -> {
+                            if (!key.isAcceptable()) return;
+                            try {
+                                // Register socket and forward to thread
+                                final SocketChannel client = acceptor.channel().accept();
+                                if (client == null) return;
+                                Worker worker = workerAssignment.assign(workers, client);
+                                worker.receiveConnection(client);
+                            } catch (IOException e) {
+                                e.printStackTrace();
+                            }
+                        });
+                    } catch (IOException e) {
+                        MinecraftServer.getExceptionManager().handleException(e);
+                    }
                 }
-            }
-        }, "Ms-entrypoint").start();
+            }, name).start();
+        }
     }
 
     public void tick() {
@@ -102,8 +138,8 @@ public final class Server {
     public void stop() {
         this.stop = true;
         try {
-            if(serverSocket != null) {
-                this.serverSocket.close();
+            for (Acceptor acceptor : acceptors) {
+                acceptor.channel().close();
             }
 
             if (socketAddress instanceof UnixDomainSocketAddress unixDomainSocketAddress) {
@@ -112,7 +148,7 @@ public final class Server {
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
-        this.selector.wakeup();
+        this.acceptors.forEach(acceptor -> acceptor.selector().wakeup());
         this.workers.forEach(worker -> worker.selector.wakeup());
     }
 
@@ -133,8 +169,50 @@ public final class Server {
         return port;
     }
 
-    private Worker findWorker() {
-        this.index = ++index % ServerFlag.WORKER_COUNT;
-        return workers.get(index);
+    /**
+     * Gets the number of threads accepting connections.
+     * <p>
+     * Greater than one only if {@link ServerFlag#ACCEPTOR_COUNT} is and the platform supports {@code SO_REUSEPORT}.
+     *
+     * @return the acceptor count
+     */
+    public int acceptorCount() {
+        return acceptors.size();
+    }
+
+    public @NotNull List<Worker> workers() {
+        return workers;
+    }
+
+    public @NotNull WorkerAssignment workerAssignment() {
+        return workerAssignment;
+    }
+
+    /**
+     * Changes how connections are assigned to workers.
+     * <p>
+     * Only affects connections accepted (or players spawned) after the change.
+     *
+     * @param workerAssignment the new assignment strategy
+     */
+    public void workerAssignment(@NotNull WorkerAssignment workerAssignment) {
+        this.workerAssignment = workerAssignment;
+    }
+
+    /**
+     * Gives the worker assignment a chance to move the connection of a spawned player.
+     * <p>
+     * Called from the player tick thread, after the player spawned and whenever it is ticked by another thread.
+     */
+    @ApiStatus.Internal
+    public void reassignWorker(@NotNull Player player, @NotNull TickThread tickThread) {
+        if (!(player.getPlayerConnection() instanceof PlayerSocketConnection connection)) return;
+        final Worker target = workerAssignment.reassign(workers, connection, player, tickThread);
+        if (target == null || target == connection.worker()) return;
+        Check.argCondition(!workers.contains(target), "Worker does not belong to this server");
+        connection.migrate(target);
+    }
+
+    private record Acceptor(ServerSocketChannel channel, Selector selector) {
     }
 }
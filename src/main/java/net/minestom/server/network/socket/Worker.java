@@ -111,6 +111,50 @@ public final class Worker extends MinestomThread {
         }
     }
 
+    /**
+     * Stops handling a connection which is being moved to another worker.
+     * <p>
+     * Pending data is flushed and the channel is removed from this worker selector, but stays open.
+     */
+    @ApiStatus.Internal
+    public void detach(PlayerSocketConnection connection, SocketChannel channel) {
+        assert Thread.currentThread() == this;
+        this.connectionMap.remove(channel);
+        final SelectionKey key = channel.keyFor(selector);
+        if (key != null) key.cancel();
+        if (channel.isOpen()) {
+            try {
+                connection.flushSync();
+            } catch (IOException e) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Starts handling a connection previously detached from another worker.
+     */
+    @ApiStatus.Internal
+    public void attach(PlayerSocketConnection connection, SocketChannel channel) {
+        assert Thread.currentThread() == this;
+        if (!channel.isOpen()) return;
+        this.connectionMap.put(channel, connection);
+        try {
+            channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Gets the number of connections handled by this worker.
+     *
+     * @return the connection count
+     */
+    public int connectionCount() {
+        return connectionMap.size();
+    }
+
     void receiveConnection(SocketChannel channel) throws IOException {
         this.connectionMap.put(channel, new PlayerSocketConnection(this, channel, channel.getRemoteAddress()));
         channel.configureBlocking(false);
@@ -0,0 +1,96 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.thread.TickThread;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides which {@link Worker} handles the network work of a connection.
+ * <p>
+ * A worker is assigned when the connection is accepted, and can then be changed once the player
+ * spawns and is ticked, for example to keep the connection on a worker paired with the player tick thread.
+ */
+@ApiStatus.Experimental
+public interface WorkerAssignment {
+    /**
+     * Assigns workers in a round-robin fashion, never moving connections.
+     */
+    static @NotNull WorkerAssignment roundRobin() {
+        return new WorkerAssignment() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public @NotNull Worker assign(@NotNull List<Worker> workers, @NotNull SocketChannel channel) {
+                return workers.get(Math.floorMod(counter.getAndIncrement(), workers.size()));
+            }
+        };
+    }
+
+    /**
+     * Assigns the worker handling the fewest connections, never moving connections.
+     */
+    static @NotNull WorkerAssignment leastConnections() {
+        return (workers, channel) -> {
+            Worker result = workers.get(0);
+            for (Worker worker : workers) {
+                if (worker.connectionCount() < result.connectionCount()) result = worker;
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Assigns workers in a round-robin fashion, then moves the connection to the worker paired
+     * with the player tick thread once it spawns, and again when the player is moved to another tick thread.
+     * <p>
+     * Reduces cross-core handoffs between the tick threads producing packets and the workers sending them.
+     */
+    static @NotNull WorkerAssignment tickThreadAffinity() {
+        final WorkerAssignment initial = roundRobin();
+        return new WorkerAssignment() {
+            @Override
+            public @NotNull Worker assign(@NotNull List<Worker> workers, @NotNull SocketChannel channel) {
+                return initial.assign(workers, channel);
+            }
+
+            @Override
+            public @Nullable Worker reassign(@NotNull List<Worker> workers, @NotNull PlayerSocketConnection connection,
+                                             @NotNull Player player, @NotNull TickThread tickThread) {
+                return workers.get(tickThread.number() % workers.size());
+            }
+        };
+    }
+
+    /**
+     * Picks the worker of a newly accepted connection.
+     * <p>
+     * Can be called from multiple acceptor threads at once.
+     *
+     * @param workers the server workers
+     * @param channel the accepted channel
+     * @return the worker which will handle the connection
+     */
+    @NotNull Worker assign(@NotNull List<Worker> workers, @NotNull SocketChannel channel);
+
+    /**
+     * Called from the player tick thread after the player spawned, then every time the player
+     * is ticked by a different thread (e.g. after its partition has been moved).
+     *
+     * @param workers    the server workers
+     * @param connection the player connection
+     * @param player     the player
+     * @param tickThread the thread ticking the player
+     * @return the worker the connection should be moved to, null to keep the current one
+     */
+    default @Nullable Worker reassign(@NotNull List<Worker> workers, @NotNull PlayerSocketConnection connection,
+                                      @NotNull Player player, @NotNull TickThread tickThread) {
+        return null;
+    }
+}
@@ -1,6 +1,8 @@
 package net.minestom.server.recipe;
 
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.DeclareRecipesPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -9,7 +11,8 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 public class RecipeManager {
-    private DeclareRecipesPacket declareRecipesPacket = new DeclareRecipesPacket(List.of());
+    private volatile DeclareRecipesPacket declareRecipesPacket = new DeclareRecipesPacket(List.of());
+    private final CachedPacket declareRecipesCache = new CachedPacket(() -> declareRecipesPacket);
     private final Set<Recipe> recipes = new CopyOnWriteArraySet<>();
 
     public void addRecipes(@NotNull Recipe... recipe) {
@@ -40,6 +43,16 @@ public class RecipeManager {
         return declareRecipesPacket;
     }
 
+    /**
+     * Gets the recipe declaration framed once and shared by all players, invalidated when recipes change.
+     *
+     * @return the cached recipe declaration packet
+     */
+    @ApiStatus.Internal
+    public @NotNull CachedPacket getDeclareRecipesCachedPacket() {
+        return declareRecipesCache;
+    }
+
     private void refreshRecipesPacket() {
         List<DeclareRecipesPacket.DeclaredRecipe> recipesCache = new ArrayList<>();
         for (Recipe recipe : recipes) {
@@ -147,6 +160,7 @@ public class RecipeManager {
         }
 
         declareRecipesPacket = new DeclareRecipesPacket(recipesCache);
+        declareRecipesCache.invalidate();
         // TODO; refresh and update players recipes
     }
 
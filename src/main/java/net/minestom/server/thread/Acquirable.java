@@ -1,10 +1,14 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.entity.Entity;
+import net.minestom.server.monitoring.AcquisitionHistogram;
 import net.minestom.server.utils.async.AsyncUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -40,6 +44,38 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
         return AcquirableImpl.WAIT_COUNTER_NANO.getAndSet(0);
     }
 
+    /**
+     * Retrieve and reset the distribution of the acquisition wait times.
+     */
+    @ApiStatus.Internal
+    static @NotNull AcquisitionHistogram resetAcquiringHistogram() {
+        return AcquirableImpl.resetHistogram();
+    }
+
+    /**
+     * Locks all the acquirable elements at once, execute {@code runnable} synchronously and unlock them.
+     * <p>
+     * The threads are locked together in a fixed order, which holds the other threads
+     * for less time than {@link #sync(Consumer)} calls inside each other.
+     * Elements not yet assigned to a thread are not locked.
+     *
+     * @param acquirables the elements to acquire
+     * @param runnable    the callback to execute once all the elements have been safely acquired
+     */
+    static void sync(@NotNull Collection<? extends Acquirable<?>> acquirables, @NotNull Runnable runnable) {
+        List<TickThread> threads = new ArrayList<>(acquirables.size());
+        for (Acquirable<?> acquirable : acquirables) {
+            final TickThread thread = acquirable.assignedThread();
+            if (thread != null) threads.add(thread);
+        }
+        final List<TickThread> entered = AcquirableImpl.enter(Thread.currentThread(), threads);
+        try {
+            runnable.run();
+        } finally {
+            AcquirableImpl.leave(entered);
+        }
+    }
+
     /**
      * Creates a new {@link Acquirable} object.
      * <p>
@@ -1,19 +1,32 @@
 package net.minestom.server.thread;
 
+import net.minestom.server.monitoring.AcquisitionHistogram;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantLock;
 
 final class AcquirableImpl<T> implements Acquirable<T> {
     static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
+    static final AtomicLongArray WAIT_HISTOGRAM = new AtomicLongArray(AcquisitionHistogram.BUCKET_COUNT);
+
+    // Order in which the threads are locked, numbers are only unique per dispatcher
+    private static final Comparator<TickThread> ORDER = Comparator.comparingInt(TickThread::number)
+            .thenComparingLong(Thread::getId);
 
     /**
-     * Global lock used for synchronization.
+     * Threads acquired by the current thread, in acquisition order.
      */
-    private static final ReentrantLock GLOBAL_LOCK = new ReentrantLock();
+    private static final ThreadLocal<List<TickThread>> ACQUIRED = ThreadLocal.withInitial(ArrayList::new);
 
     private final T value;
     private TickThread assignedThread;
@@ -38,37 +51,84 @@ final class AcquirableImpl<T> implements Acquirable<T> {
         VarHandle.releaseFence();
     }
 
-    static @Nullable ReentrantLock enter(@NotNull Thread currentThread, @Nullable TickThread elementThread) {
+    static @Nullable TickThread enter(@NotNull Thread currentThread, @Nullable TickThread elementThread) {
         if (elementThread == null) return null;
-        if (currentThread == elementThread) return null;
-        final ReentrantLock currentLock = currentThread instanceof TickThread ? ((TickThread) currentThread).lock() : null;
-        final ReentrantLock targetLock = elementThread.lock();
-        if (targetLock.isHeldByCurrentThread()) return null;
+        final List<TickThread> entered = enter(currentThread, List.of(elementThread));
+        return entered.isEmpty() ? null : entered.get(0);
+    }
+
+    /**
+     * Locks multiple threads at once.
+     * <p>
+     * Locks are always waited for by increasing {@link TickThread#number()}, so that two threads can never
+     * wait for each other. The locks already held with a higher number, including the one of the current tick thread,
+     * are released while waiting and taken again afterward, in order.
+     *
+     * @param currentThread the acquiring thread
+     * @param threads       the threads to lock
+     * @return the threads that have been locked, to be passed to {@link #leave(List)}
+     */
+    static @NotNull List<TickThread> enter(@NotNull Thread currentThread, @NotNull Collection<TickThread> threads) {
+        List<TickThread> targets = new ArrayList<>(threads.size());
+        for (TickThread thread : threads) {
+            if (thread == null || thread == currentThread || thread.lock().isHeldByCurrentThread() || targets.contains(thread)) continue;
+            targets.add(thread);
+        }
+        if (targets.isEmpty()) return List.of();
+        targets.sort(ORDER);
 
         // Monitoring
         final long time = System.nanoTime();
 
-        // Enter the target thread
-        // TODO reduce global lock scope
-        if (currentLock != null) {
-            while (!GLOBAL_LOCK.tryLock()) {
-                currentLock.unlock();
-                currentLock.lock();
-            }
-        } else {
-            GLOBAL_LOCK.lock();
+        final List<TickThread> acquired = ACQUIRED.get();
+        final TickThread lowest = targets.get(0);
+        Map<TickThread, Integer> released = Map.of();
+        if (currentThread instanceof TickThread tickThread) released = release(tickThread, lowest, released);
+        for (TickThread thread : acquired) released = release(thread, lowest, released);
+
+        List<TickThread> locking = targets;
+        if (!released.isEmpty()) {
+            locking = new ArrayList<>(targets);
+            locking.addAll(released.keySet());
+            locking.sort(ORDER);
         }
-        targetLock.lock();
+        for (TickThread thread : locking) {
+            final int holdCount = released.getOrDefault(thread, 1);
+            for (int i = 0; i < holdCount; i++) thread.lock().lock();
+        }
+        acquired.addAll(targets);
 
         // Monitoring
-        WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
-        return targetLock;
+        final long waitTime = System.nanoTime() - time;
+        WAIT_COUNTER_NANO.addAndGet(waitTime);
+        WAIT_HISTOGRAM.incrementAndGet(AcquisitionHistogram.bucket(waitTime));
+        return targets;
+    }
+
+    private static Map<TickThread, Integer> release(TickThread thread, TickThread lowest, Map<TickThread, Integer> released) {
+        final ReentrantLock lock = thread.lock();
+        if (ORDER.compare(thread, lowest) < 0 || !lock.isHeldByCurrentThread()) return released;
+        if (released.isEmpty()) released = new IdentityHashMap<>();
+        final int holdCount = lock.getHoldCount();
+        released.put(thread, holdCount);
+        for (int i = 0; i < holdCount; i++) lock.unlock();
+        return released;
     }
 
-    static void leave(@Nullable ReentrantLock lock) {
-        if (lock != null) {
-            lock.unlock();
-            GLOBAL_LOCK.unlock();
+    static void leave(@Nullable TickThread thread) {
+        if (thread != null) {
+            ACQUIRED.get().remove(thread);
+            thread.lock().unlock();
         }
     }
+
+    static void leave(@NotNull List<TickThread> threads) {
+        for (int i = threads.size() - 1; i >= 0; i--) leave(threads.get(i));
+    }
+
+    static @NotNull AcquisitionHistogram resetHistogram() {
+        long[] counts = new long[WAIT_HISTOGRAM.length()];
+        for (int i = 0; i < counts.length; i++) counts[i] = WAIT_HISTOGRAM.getAndSet(i, 0);
+        return new AcquisitionHistogram(counts);
+    }
 }
@@ -0,0 +1,106 @@
+package net.minestom.server.thread;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Provider moving the most expensive partitions from the most loaded thread to the least loaded one,
+ * based on {@link ThreadDispatcher.Partition#averageTickDuration()}.
+ * <p>
+ * To avoid partitions bouncing between threads, nothing is moved until the most loaded thread
+ * exceeds the mean load by {@code threshold}, a moved partition stays on its thread for {@code cooldown}
+ * refreshes, and a partition is only moved if it lowers the highest load.
+ *
+ * @param <T> the partition type
+ */
+@ApiStatus.Experimental
+public final class BalancedThreadProvider<T> implements ThreadProvider<T> {
+    private final ThreadProvider<T> initialProvider;
+    private final double threshold;
+    private final int cooldown;
+    private final int maxMoves;
+
+    private final Map<ThreadDispatcher.Partition, Long> lastMoves = new WeakHashMap<>();
+    private long refreshCount;
+
+    /**
+     * @param initialProvider the provider used to dispatch new partitions
+     * @param threshold       the ratio above the mean load from which a thread is considered overloaded
+     * @param cooldown        the number of refreshes during which a moved partition cannot move again
+     * @param maxMoves        the maximum number of partitions moved per refresh
+     */
+    public BalancedThreadProvider(@NotNull ThreadProvider<T> initialProvider,
+                                  double threshold, int cooldown, int maxMoves) {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold cannot be negative");
+        if (cooldown < 0) throw new IllegalArgumentException("Cooldown cannot be negative");
+        if (maxMoves <= 0) throw new IllegalArgumentException("Max moves must be positive");
+        this.initialProvider = initialProvider;
+        this.threshold = threshold;
+        this.cooldown = cooldown;
+        this.maxMoves = maxMoves;
+    }
+
+    public BalancedThreadProvider(@NotNull ThreadProvider<T> initialProvider) {
+        this(initialProvider, 0.2, 100, 1);
+    }
+
+    @Override
+    public int findThread(@NotNull T partition) {
+        return initialProvider.findThread(partition);
+    }
+
+    @Override
+    public @NotNull RefreshType refreshType() {
+        return RefreshType.BALANCED;
+    }
+
+    @Override
+    public void balance(@NotNull List<TickThread> threads,
+                        @NotNull BiConsumer<ThreadDispatcher.Partition, TickThread> mover) {
+        final long refresh = ++refreshCount;
+        final int size = threads.size();
+        if (size < 2) return;
+        // Loads are computed from the partitions, so that they can be updated after each move
+        double[] loads = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            double load = 0;
+            for (ThreadDispatcher.Partition partition : threads.get(i).entries()) {
+                load += partition.averageTickDuration();
+            }
+            loads[i] = load;
+            total += load;
+        }
+        final double limit = total / size * (1 + threshold);
+        for (int move = 0; move < maxMoves; move++) {
+            int busiest = 0, idlest = 0;
+            for (int i = 1; i < size; i++) {
+                if (loads[i] > loads[busiest]) busiest = i;
+                if (loads[i] < loads[idlest]) idlest = i;
+            }
+            if (loads[busiest] <= limit) return;
+            // Most expensive partition whose move lowers the highest load
+            final double gap = loads[busiest] - loads[idlest];
+            ThreadDispatcher.Partition candidate = null;
+            double candidateCost = 0;
+            for (ThreadDispatcher.Partition partition : threads.get(busiest).entries()) {
+                final double cost = partition.averageTickDuration();
+                if (cost <= candidateCost || cost >= gap) continue;
+                final Long lastMove = lastMoves.get(partition);
+                if (lastMove != null && refresh - lastMove < cooldown) continue;
+                candidate = partition;
+                candidateCost = cost;
+            }
+            if (candidate == null) return;
+            mover.accept(candidate, threads.get(idlest));
+            this.lastMoves.put(candidate, refresh);
+            loads[busiest] -= candidateCost;
+            loads[idlest] += candidateCost;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Provider keeping square regions of chunks on the same thread, so that entities interacting
+ * across a chunk border do not need to {@link Acquirable acquire} each other.
+ * <p>
+ * Regions containing players closer than {@code mergeDistance} blocks are merged onto one thread,
+ * the merge is dropped once the players have not been close for {@code mergeDuration} milliseconds.
+ * <p>
+ * Must only be used by a single {@link ThreadDispatcher}, it is only called between ticks.
+ */
+@ApiStatus.Experimental
+public final class RegionThreadProvider implements ThreadProvider<Chunk> {
+    private final int regionSize;
+    private final double mergeDistance;
+    private final long mergeDuration;
+
+    private final Map<Instance, Regions> instances = new WeakHashMap<>();
+    private int counter;
+
+    /**
+     * @param regionSize    the width of a region in chunks
+     * @param mergeDistance the distance in blocks under which players merge their regions, 0 to disable merging
+     * @param mergeDuration the time in milliseconds a merge is kept after the players moved away
+     */
+    public RegionThreadProvider(int regionSize, double mergeDistance, long mergeDuration) {
+        if (regionSize <= 0) throw new IllegalArgumentException("Region size must be positive");
+        if (mergeDistance < 0) throw new IllegalArgumentException("Merge distance cannot be negative");
+        this.regionSize = regionSize;
+        this.mergeDistance = mergeDistance;
+        this.mergeDuration = mergeDuration;
+    }
+
+    public RegionThreadProvider(int regionSize) {
+        this(regionSize, 16, 10_000);
+    }
+
+    @Override
+    public int findThread(@NotNull Chunk chunk) {
+        final Instance instance = chunk.getInstance();
+        final Regions regions = instances.computeIfAbsent(instance, i -> new Regions());
+        final long time = System.currentTimeMillis();
+        final long region = region(chunk.getChunkX(), chunk.getChunkZ());
+        if (mergeDistance > 0) {
+            for (Entity entity : instance.getChunkEntities(chunk)) {
+                if (!(entity instanceof Player player)) continue;
+                for (Entity nearby : instance.getNearbyEntities(player.getPosition(), mergeDistance)) {
+                    if (!(nearby instanceof Player)) continue;
+                    final long nearbyRegion = region(nearby.getPosition());
+                    if (nearbyRegion != region) regions.merge(region, nearbyRegion, time);
+                }
+            }
+        }
+        return regions.thread(regions.root(region, time));
+    }
+
+    @Override
+    public @NotNull RefreshType refreshType() {
+        // Merges are applied when the chunks are refreshed
+        return RefreshType.ALWAYS;
+    }
+
+    /**
+     * Gets the region of a chunk.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the region index, as a chunk index of the region coordinates
+     */
+    public long region(int chunkX, int chunkZ) {
+        return ChunkUtils.getChunkIndex(Math.floorDiv(chunkX, regionSize), Math.floorDiv(chunkZ, regionSize));
+    }
+
+    private long region(Point point) {
+        return region(point.chunkX(), point.chunkZ());
+    }
+
+    private final class Regions {
+        // Region -> region it has been merged into
+        private final Map<Long, Long> parents = new HashMap<>();
+        private final Map<Long, Long> expirations = new HashMap<>();
+        // Root region -> thread, only kept while the region is a root
+        private final Map<Long, Integer> threads = new HashMap<>();
+
+        long root(long region, long time) {
+            while (true) {
+                final Long parent = parents.get(region);
+                if (parent == null) return region;
+                if (expirations.get(region) < time) {
+                    // Players moved away, split onto a new thread
+                    this.parents.remove(region);
+                    this.expirations.remove(region);
+                    this.threads.remove(region);
+                    return region;
+                }
+                region = parent;
+            }
+        }
+
+        void merge(long region, long other, long time) {
+            final long root = root(region, time);
+            final long otherRoot = root(other, time);
+            if (root != otherRoot) {
+                // Only roots are linked, preventing cycles
+                final long kept = Math.min(root, otherRoot);
+                final long merged = Math.max(root, otherRoot);
+                this.parents.put(merged, kept);
+                // Now ticked by the thread of the kept root
+                this.threads.remove(merged);
+            }
+            final long expiration = time + mergeDuration;
+            keepAlive(region, expiration);
+            keepAlive(other, expiration);
+        }
+
+        int thread(long root) {
+            return threads.computeIfAbsent(root, r -> counter++);
+        }
+
+        private void keepAlive(long region, long expiration) {
+            while (true) {
+                final Long parent = parents.get(region);
+                if (parent == null) return;
+                this.expirations.put(region, expiration);
+                region = parent;
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.monitoring.RollingHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded thread pool used for a kind of asynchronous server work, see {@link ServerExecutors}.
+ * <p>
+ * Tasks exceeding the queue capacity are handled by the {@link RejectionPolicy}.
+ * The executor keeps track of its queue depth and of the time tasks spent in the queue.
+ */
+public final class ServerExecutor implements Executor {
+    private static final int LATENCY_HISTORY = 1024;
+
+    public enum RejectionPolicy {
+        /**
+         * Runs the task in the submitting thread, slowing down the producer.
+         */
+        CALLER_RUNS,
+        /**
+         * Blocks the submitting thread until the queue has space.
+         */
+        BLOCK,
+        /**
+         * Throws a {@link RejectedExecutionException} to the submitting thread.
+         */
+        ABORT
+    }
+
+    private final String name;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final ThreadPoolExecutor executor;
+    private final RollingHistogram queueLatency = new RollingHistogram(LATENCY_HISTORY);
+    private final LongAdder rejectedTasks = new LongAdder();
+
+    public ServerExecutor(@NotNull String name, int threads, int queueCapacity, @NotNull RejectionPolicy rejectionPolicy) {
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive");
+        if (queueCapacity <= 0) throw new IllegalArgumentException("Queue capacity must be positive");
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+        final AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "Ms-" + name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, this::reject);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        final long submitTime = System.nanoTime();
+        this.executor.execute(() -> {
+            this.queueLatency.record(System.nanoTime() - submitTime);
+            try {
+                command.run();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        });
+    }
+
+    public @NotNull String name() {
+        return name;
+    }
+
+    public @NotNull RejectionPolicy rejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public int threads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a thread.
+     *
+     * @return the queue depth
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Gets the approximate number of threads running a task.
+     *
+     * @return the active thread count
+     */
+    public int activeThreads() {
+        return executor.getActiveCount();
+    }
+
+    public long completedTasks() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Gets the number of tasks which did not fit in the queue, whatever the rejection policy.
+     *
+     * @return the rejected task count
+     */
+    public long rejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * Gets the time spent in the queue by the last {@value #LATENCY_HISTORY} tasks.
+     *
+     * @return the queue latency summary
+     */
+    public @NotNull RollingHistogram.Summary queueLatency() {
+        return queueLatency.summary();
+    }
+
+    /**
+     * Stops accepting tasks, the queued tasks are still executed.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private void reject(Runnable runnable, ThreadPoolExecutor executor) {
+        this.rejectedTasks.increment();
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor " + name + " has been shut down");
+        }
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> runnable.run();
+            case BLOCK -> {
+                try {
+                    executor.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for executor " + name, e);
+                }
+            }
+            case ABORT -> throw new RejectedExecutionException("Executor " + name + " is saturated");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ServerExecutor{name=" + name + ", threads=" + threads() + ", queueDepth=" + queueDepth() + "}";
+    }
+}
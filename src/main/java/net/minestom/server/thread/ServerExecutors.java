@@ -0,0 +1,113 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the named {@link ServerExecutor executors} running the asynchronous server work,
+ * so that a saturated subsystem does not delay the others or the user code running in the common pool.
+ * <p>
+ * The built-in executors are sized with {@link ServerFlag}, and can be replaced with {@link #register(String, int, int, ServerExecutor.RejectionPolicy)}.
+ */
+public final class ServerExecutors {
+    /**
+     * Chunk generation.
+     */
+    public static final String GENERATION = "generation";
+    /**
+     * Chunk loading and saving.
+     */
+    public static final String IO = "io";
+    /**
+     * Light propagation.
+     */
+    public static final String LIGHTING = "lighting";
+    /**
+     * Asynchronous scheduler tasks and acquisitions.
+     */
+    public static final String ASYNC = "async";
+    /**
+     * Login and configuration of the players.
+     */
+    public static final String LOGIN = "login";
+
+    private static final Map<String, ServerExecutor> EXECUTORS = new ConcurrentHashMap<>();
+
+    static {
+        register(GENERATION, ServerFlag.GENERATION_THREADS);
+        register(IO, ServerFlag.IO_THREADS);
+        register(LIGHTING, ServerFlag.LIGHTING_THREADS);
+        register(ASYNC, ServerFlag.ASYNC_THREADS);
+        register(LOGIN, ServerFlag.LOGIN_THREADS);
+    }
+
+    private ServerExecutors() {
+    }
+
+    /**
+     * Gets an executor by its name.
+     *
+     * @param name the executor name
+     * @return the executor
+     * @throws IllegalArgumentException if no executor has been registered with the name
+     */
+    public static @NotNull ServerExecutor get(@NotNull String name) {
+        final ServerExecutor executor = EXECUTORS.get(name);
+        if (executor == null) throw new IllegalArgumentException("Unknown executor: " + name);
+        return executor;
+    }
+
+    /**
+     * Registers an executor, replacing and shutting down the previous one with the same name.
+     * <p>
+     * The tasks queued in the previous executor are still executed.
+     *
+     * @param name            the executor name
+     * @param threads         the maximum number of threads
+     * @param queueCapacity   the maximum number of waiting tasks
+     * @param rejectionPolicy the policy applied to the tasks exceeding the queue capacity
+     * @return the new executor
+     */
+    public static @NotNull ServerExecutor register(@NotNull String name, int threads, int queueCapacity,
+                                                   @NotNull ServerExecutor.RejectionPolicy rejectionPolicy) {
+        final ServerExecutor executor = new ServerExecutor(name, threads, queueCapacity, rejectionPolicy);
+        final ServerExecutor previous = EXECUTORS.put(name, executor);
+        if (previous != null) previous.shutdown();
+        return executor;
+    }
+
+    public static @NotNull Collection<ServerExecutor> executors() {
+        return Collections.unmodifiableCollection(EXECUTORS.values());
+    }
+
+    public static @NotNull ServerExecutor generation() {
+        return get(GENERATION);
+    }
+
+    public static @NotNull ServerExecutor io() {
+        return get(IO);
+    }
+
+    public static @NotNull ServerExecutor lighting() {
+        return get(LIGHTING);
+    }
+
+    public static @NotNull ServerExecutor async() {
+        return get(ASYNC);
+    }
+
+    public static @NotNull ServerExecutor login() {
+        return get(LOGIN);
+    }
+
+    private static void register(String name, int threads) {
+        register(name, threads, ServerFlag.EXECUTOR_QUEUE_SIZE,
+                ServerExecutor.RejectionPolicy.valueOf(ServerFlag.EXECUTOR_REJECTION_POLICY.toUpperCase(Locale.ROOT)));
+    }
+}
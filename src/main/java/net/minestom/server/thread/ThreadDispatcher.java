@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
 
 /**
  * Used to link chunks into multiple groups.
@@ -81,9 +82,32 @@ public final class ThreadDispatcher<P> {
         }
     }
 
+    /**
+     * Runs a task once on each tick thread and waits for all of them to complete.
+     * <p>
+     * Used for the work following the tick which can be split between the otherwise idle tick threads.
+     *
+     * @param task the task to run, receiving the index of the thread in {@link #threads()}
+     */
+    @ApiStatus.Internal
+    public synchronized void runAndAwait(@NotNull IntConsumer task) {
+        final int size = threads.size();
+        CountDownLatch latch = new CountDownLatch(size);
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            threads.get(i).startTask(latch, () -> task.accept(index));
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Called at the end of each tick to clear removed entities,
-     * refresh the chunk linked to an entity, and chunk threads based on {@link ThreadProvider#findThread(Object)}.
+     * refresh the chunk linked to an entity, and chunk threads based on {@link ThreadProvider#findThread(Object)}
+     * or {@link ThreadProvider#balance}.
      *
      * @param nanoTimeout max time in nanoseconds to update partitions
      */
@@ -101,19 +125,14 @@ public final class ThreadDispatcher<P> {
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
-                    final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries().remove(partitionEntry);
-                        next.entries().add(partitionEntry);
-                    }
+                    movePartition(partitionEntry, retrieveThread(partition));
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> provider.balance(threads, this::movePartition);
         }
     }
 
@@ -152,6 +171,24 @@ public final class ThreadDispatcher<P> {
         return threads.get(index);
     }
 
+    private void movePartition(@NotNull Partition partition, @NotNull TickThread next) {
+        if (!threads.contains(next)) {
+            throw new IllegalArgumentException("Thread " + next.getName() + " does not belong to this dispatcher");
+        }
+        final TickThread previous = partition.thread;
+        if (previous == next) return;
+        if (!previous.entries().remove(partition)) {
+            throw new IllegalArgumentException("Partition does not belong to this dispatcher");
+        }
+        partition.thread = next;
+        next.entries().add(partition);
+        for (Tickable element : partition.elements) {
+            if (element instanceof Entity entity) {
+                ((AcquirableImpl<?>) entity.getAcquirable()).updateThread(next);
+            }
+        }
+    }
+
     private void signalUpdate(@NotNull DispatchUpdate<P> update) {
         this.updates.relaxedOffer(update);
     }
@@ -207,8 +244,13 @@ public final class ThreadDispatcher<P> {
     }
 
     public static final class Partition {
+        // Weight of the last tick in the moving averages
+        private static final double SMOOTHING = 0.1;
+
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        private volatile long tickDuration;
+        private volatile double averageTickDuration;
 
         private Partition(TickThread thread) {
             this.thread = thread;
@@ -221,6 +263,34 @@ public final class ThreadDispatcher<P> {
         public @NotNull List<Tickable> elements() {
             return elements;
         }
+
+        /**
+         * Gets the time spent ticking the elements of this partition during the last tick.
+         *
+         * @return the last tick duration in nanoseconds
+         */
+        public long tickDuration() {
+            return tickDuration;
+        }
+
+        /**
+         * Gets the exponential moving average of {@link #tickDuration()},
+         * used to balance the partitions between threads.
+         *
+         * @return the average tick duration in nanoseconds
+         */
+        public double averageTickDuration() {
+            return averageTickDuration;
+        }
+
+        void recordTick(long duration) {
+            this.tickDuration = duration;
+            this.averageTickDuration = smooth(averageTickDuration, duration);
+        }
+
+        static double smooth(double average, long duration) {
+            return average + (duration - average) * SMOOTHING;
+        }
     }
 
     @ApiStatus.Internal
@@ -3,7 +3,9 @@ package net.minestom.server.thread;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 @FunctionalInterface
 @ApiStatus.Experimental
@@ -19,6 +21,17 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider dispatching new partitions with {@link #counter()},
+     * then moving the most expensive partitions off overloaded threads.
+     *
+     * @return a new balancing provider
+     * @see BalancedThreadProvider
+     */
+    static <T> @NotNull ThreadProvider<T> balanced() {
+        return new BalancedThreadProvider<>(counter());
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -35,6 +48,18 @@ public interface ThreadProvider<T> {
         return RefreshType.NEVER;
     }
 
+    /**
+     * Moves partitions between threads based on their measured cost.
+     * <p>
+     * Called between ticks when {@link #refreshType()} is {@link RefreshType#BALANCED}.
+     *
+     * @param threads the dispatcher threads, with their partitions and load
+     * @param mover   moves a partition to another thread of the dispatcher
+     */
+    default void balance(@NotNull List<TickThread> threads,
+                         @NotNull BiConsumer<ThreadDispatcher.Partition, TickThread> mover) {
+    }
+
     /**
      * Defines how often chunks thread should be refreshed.
      */
@@ -50,6 +75,11 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Thread is defined once by {@link #findThread(Object)},
+         * then partitions are moved by {@link #balance(List, BiConsumer)} at the end of each tick.
+         */
+        BALANCED
     }
 }
@@ -0,0 +1,143 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces the server ticks at a fixed rate.
+ * <p>
+ * Waits park the thread until {@link ServerFlag#TICK_SPIN_DURATION} microseconds before the deadline and then spin,
+ * so that an idle server wakes up once per tick while keeping an accurate tick rate.
+ * Ticks ending after the next deadline are handled according to the {@link OverloadPolicy}.
+ */
+public final class TickPacer {
+    public enum OverloadPolicy {
+        /**
+         * Runs the late ticks back-to-back until the schedule is caught up.
+         * Ticks further than {@link ServerFlag#TICK_MAX_CATCH_UP} behind are dropped.
+         */
+        CATCH_UP,
+        /**
+         * Drops the missed ticks, the next tick waits for the next deadline of the schedule.
+         */
+        SKIP,
+        /**
+         * Delays the schedule, the next tick starts immediately and the following ones are paced from it.
+         */
+        STRETCH
+    }
+
+    private final long tickNs;
+    private final OverloadPolicy policy;
+    private final int maxCatchUp;
+    private final long spinNs;
+
+    // Scheduled start of the current tick
+    private long deadline;
+    private volatile long debt;
+    private volatile long skippedTicks;
+
+    public TickPacer(long tickNs, @NotNull OverloadPolicy policy, int maxCatchUp, long spinNs) {
+        if (tickNs <= 0) throw new IllegalArgumentException("Tick duration must be positive");
+        if (maxCatchUp < 0) throw new IllegalArgumentException("Catch up limit must be positive");
+        this.tickNs = tickNs;
+        this.policy = policy;
+        this.maxCatchUp = maxCatchUp;
+        this.spinNs = Math.max(spinNs, 0);
+    }
+
+    public TickPacer() {
+        this(TimeUnit.MILLISECONDS.toNanos(MinecraftServer.TICK_MS),
+                OverloadPolicy.valueOf(ServerFlag.TICK_OVERLOAD_POLICY.toUpperCase(Locale.ROOT)),
+                ServerFlag.TICK_MAX_CATCH_UP, TimeUnit.MICROSECONDS.toNanos(ServerFlag.TICK_SPIN_DURATION));
+    }
+
+    /**
+     * Starts the schedule.
+     *
+     * @param nanoTime the start of the first tick
+     */
+    public void start(long nanoTime) {
+        this.deadline = nanoTime;
+        this.debt = 0;
+    }
+
+    /**
+     * Computes the start of the next tick, called once the current tick is over.
+     *
+     * @param nanoTime the current time
+     * @return the start of the next tick, in the past if it should run immediately
+     */
+    public long next(long nanoTime) {
+        final long tickNs = this.tickNs;
+        long next = deadline + tickNs;
+        final long lag = nanoTime - next;
+        this.debt = Math.max(lag, 0);
+        if (lag > 0) {
+            switch (policy) {
+                case CATCH_UP -> {
+                    final long maxLag = maxCatchUp * tickNs;
+                    if (lag > maxLag) {
+                        final long dropped = (lag - maxLag + tickNs - 1) / tickNs;
+                        next += dropped * tickNs;
+                        this.skippedTicks += dropped;
+                    }
+                }
+                case SKIP -> {
+                    final long dropped = lag / tickNs + 1;
+                    next += dropped * tickNs;
+                    this.skippedTicks += dropped;
+                }
+                case STRETCH -> next = nanoTime;
+            }
+        }
+        this.deadline = next;
+        return next;
+    }
+
+    /**
+     * Waits until a deadline, parking the thread and spinning for the last {@link ServerFlag#TICK_SPIN_DURATION}.
+     *
+     * @param deadline the time to wait for
+     */
+    public void await(long deadline) {
+        while (true) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+            if (remaining > spinNs) {
+                LockSupport.parkNanos(this, remaining - spinNs);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public @NotNull OverloadPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Gets how late the last tick ended compared to the start of the following one in the schedule.
+     * <p>
+     * With {@link OverloadPolicy#CATCH_UP}, this is the delay to recover.
+     *
+     * @return the tick debt in nanoseconds, 0 if the last tick ended on time
+     */
+    public long debt() {
+        return debt;
+    }
+
+    /**
+     * Gets the number of ticks dropped by the overload policy since the server started.
+     *
+     * @return the skipped ticks
+     */
+    public long skippedTicks() {
+        return skippedTicks;
+    }
+}
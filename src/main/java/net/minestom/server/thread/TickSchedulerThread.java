@@ -4,15 +4,10 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerProcess;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.concurrent.locks.LockSupport;
-
 @ApiStatus.Internal
 public final class TickSchedulerThread extends MinestomThread {
     private final ServerProcess serverProcess;
 
-    private final long startTickNs = System.nanoTime();
-    private long tick = 1;
-
     public TickSchedulerThread(ServerProcess serverProcess) {
         super(MinecraftServer.THREAD_NAME_TICK_SCHEDULER);
         this.serverProcess = serverProcess;
@@ -20,7 +15,8 @@ public final class TickSchedulerThread extends MinestomThread {
 
     @Override
     public void run() {
-        final long tickNs = (long) (MinecraftServer.TICK_MS * 1e6);
+        final TickPacer pacer = serverProcess.pacer();
+        pacer.start(System.nanoTime());
         while (serverProcess.isAlive()) {
             final long tickStart = System.nanoTime();
             try {
@@ -28,23 +24,7 @@ public final class TickSchedulerThread extends MinestomThread {
             } catch (Exception e) {
                 serverProcess.exception().handleException(e);
             }
-            fixTickRate(tickNs);
-        }
-    }
-
-    private void fixTickRate(long tickNs) {
-        long nextTickNs = startTickNs + (tickNs * tick);
-        if (System.nanoTime() < nextTickNs) {
-            while (true) {
-                // Checks in every 1/10 ms to see if the current time has reached the next scheduled time.
-                Thread.yield();
-                LockSupport.parkNanos(100000);
-                long currentNs = System.nanoTime();
-                if (currentNs >= nextTickNs) {
-                    break;
-                }
-            }
+            pacer.await(pacer.next(System.nanoTime()));
         }
-        tick++;
     }
 }
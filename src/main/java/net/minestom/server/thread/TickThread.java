@@ -1,14 +1,18 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.monitoring.TickProfile;
+import net.minestom.server.utils.ViewablePacketAggregator;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -22,16 +26,33 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @ApiStatus.Internal
 public final class TickThread extends MinestomThread {
+    private static final int SAMPLED_ELEMENTS = 5;
+
+    private final int number;
     private final ReentrantLock lock = new ReentrantLock();
     private volatile boolean stop;
 
     private CountDownLatch latch;
+    // Task to run instead of the next tick, see ThreadDispatcher#runAndAwait
+    private Runnable task;
     private long tickTime;
     private long tickNum = 0;
+    private volatile long tickDuration;
+    private volatile double averageTickDuration;
+    // Read by the watchdog
+    private volatile boolean ticking;
+    private volatile long tickStart;
+    private ThreadDispatcher.Partition currentPartition;
+    private Tickable currentElement;
+    // Slowest elements of the last sampled tick
+    private final TickProfile.ElementTiming[] sampledElements = new TickProfile.ElementTiming[SAMPLED_ELEMENTS];
+    private volatile List<TickProfile.ElementTiming> slowestElements = List.of();
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
+    private final ViewablePacketAggregator viewableAggregator = ViewablePacketAggregator.create();
 
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
+        this.number = number;
     }
 
     public static @Nullable TickThread current() {
@@ -46,52 +67,117 @@ public final class TickThread extends MinestomThread {
         while (!stop) {
             this.lock.lock();
             try {
-                tick();
+                final Runnable task = this.task;
+                if (task != null) {
+                    this.task = null;
+                    task.run();
+                } else {
+                    tick();
+                }
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
+            this.currentPartition = null;
+            this.currentElement = null;
+            this.ticking = false;
             this.lock.unlock();
             // #acquire() callbacks
             this.latch.countDown();
             LockSupport.park(this);
         }
+        // Closed by the thread appending to it
+        this.viewableAggregator.close();
     }
 
     private void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = this.tickTime;
+        final long threadStart = System.nanoTime();
+        final int sampleInterval = ServerFlag.PROFILER_SAMPLE_INTERVAL;
+        final boolean sampling = sampleInterval > 0 && tickNum % sampleInterval == 0;
+        if (sampling) Arrays.fill(sampledElements, null);
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.recordTick(0);
+                continue;
+            }
+            final long partitionStart = System.nanoTime();
+            this.currentPartition = entry;
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
                     // #acquire() callbacks should be called here
                     lock.lock();
                 }
+                this.currentElement = element;
+                final long elementStart = sampling ? System.nanoTime() : 0;
                 try {
                     element.tick(tickTime);
                 } catch (Throwable e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
+                if (sampling) sampleElement(element, System.nanoTime() - elementStart);
+            }
+            entry.recordTick(System.nanoTime() - partitionStart);
+        }
+        recordTick(System.nanoTime() - threadStart);
+        if (sampling) {
+            List<TickProfile.ElementTiming> slowest = new ArrayList<>(SAMPLED_ELEMENTS);
+            for (TickProfile.ElementTiming timing : sampledElements) {
+                if (timing != null) slowest.add(timing);
             }
+            this.slowestElements = List.copyOf(slowest);
         }
     }
 
+    private void sampleElement(Tickable element, long duration) {
+        // Insertion in the array sorted by decreasing duration
+        final TickProfile.ElementTiming[] sampled = this.sampledElements;
+        int index = sampled.length;
+        while (index > 0 && (sampled[index - 1] == null || sampled[index - 1].duration() < duration)) index--;
+        if (index == sampled.length) return;
+        System.arraycopy(sampled, index, sampled, index + 1, sampled.length - index - 1);
+        sampled[index] = new TickProfile.ElementTiming(element, duration);
+    }
+
+    private void recordTick(long duration) {
+        this.tickDuration = duration;
+        this.averageTickDuration = ThreadDispatcher.Partition.smooth(averageTickDuration, duration);
+    }
+
     void startTick(CountDownLatch latch, long tickTime) {
         if (entries.isEmpty()) {
             // Nothing to tick
+            recordTick(0);
             latch.countDown();
             return;
         }
         this.latch = latch;
         this.tickTime = tickTime;
         this.tickNum += 1;
+        this.tickStart = System.nanoTime();
+        this.ticking = true;
         this.stop = false;
         LockSupport.unpark(this);
     }
 
+    void startTask(CountDownLatch latch, Runnable task) {
+        this.latch = latch;
+        this.task = task;
+        LockSupport.unpark(this);
+    }
+
+    /**
+     * Gets the index of this thread in its dispatcher.
+     *
+     * @return the thread number
+     */
+    public int number() {
+        return number;
+    }
+
     public Collection<ThreadDispatcher.Partition> entries() {
         return entries;
     }
@@ -105,6 +191,91 @@ public final class TickThread extends MinestomThread {
         return lock;
     }
 
+    /**
+     * Gets the aggregator collecting the viewable packets sent from this thread.
+     *
+     * @return the viewable packet aggregator
+     */
+    @ApiStatus.Internal
+    public @NotNull ViewablePacketAggregator viewableAggregator() {
+        return viewableAggregator;
+    }
+
+    /**
+     * Gets the time spent ticking the partitions of this thread during the last tick.
+     *
+     * @return the last tick duration in nanoseconds
+     */
+    public long tickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Gets the exponential moving average of {@link #tickDuration()}.
+     *
+     * @return the average tick duration in nanoseconds
+     */
+    public double averageTickDuration() {
+        return averageTickDuration;
+    }
+
+    /**
+     * Gets the fraction of the tick budget ({@link MinecraftServer#TICK_MS}) used by this thread on average.
+     * <p>
+     * A value above 1 means that this thread alone delays the server tick.
+     *
+     * @return the thread load
+     */
+    public double load() {
+        return averageTickDuration / (MinecraftServer.TICK_MS * 1_000_000d);
+    }
+
+    /**
+     * Gets the slowest chunks and entities of the last sampled tick,
+     * see {@link ServerFlag#PROFILER_SAMPLE_INTERVAL}.
+     *
+     * @return the slowest elements, sorted by decreasing duration
+     */
+    public @NotNull List<TickProfile.ElementTiming> slowestElements() {
+        return slowestElements;
+    }
+
+    /**
+     * Gets if this thread has not finished its current tick.
+     *
+     * @return true if the thread is ticking
+     */
+    public boolean isTicking() {
+        return ticking;
+    }
+
+    /**
+     * Gets the time at which this thread was awaken for its last tick.
+     *
+     * @return the tick start, from {@link System#nanoTime()}
+     */
+    public long tickStart() {
+        return tickStart;
+    }
+
+    /**
+     * Gets the partition being ticked, read without synchronization.
+     *
+     * @return the current partition, null if not ticking
+     */
+    public @Nullable ThreadDispatcher.Partition currentPartition() {
+        return currentPartition;
+    }
+
+    /**
+     * Gets the element being ticked, read without synchronization.
+     *
+     * @return the current element, null if not ticking
+     */
+    public @Nullable Tickable currentElement() {
+        return currentElement;
+    }
+
     public long getTick() {
         return tickNum;
     }
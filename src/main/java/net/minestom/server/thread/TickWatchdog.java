@@ -0,0 +1,140 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.server.ServerTickStallEvent;
+import net.minestom.server.monitoring.TickStallReport;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Thread reporting server ticks running for longer than {@link ServerFlag#WATCHDOG_THRESHOLD}.
+ * <p>
+ * Stalls are logged and sent as {@link ServerTickStallEvent}, with the stack traces of the ticking thread
+ * and of the late {@link TickThread tick threads}. Ticks exceeding {@link ServerFlag#WATCHDOG_DUMP_THRESHOLD}
+ * additionally log a dump of all the threads.
+ */
+@ApiStatus.Internal
+public final class TickWatchdog extends MinestomThread {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TickWatchdog.class);
+    // Limits the dump size
+    private static final int DUMP_MAX_DEPTH = 64;
+
+    private final ThreadDispatcher<?> dispatcher;
+    private final long thresholdNs;
+    private final long dumpThresholdNs;
+
+    private volatile boolean stop;
+    private volatile Thread tickerThread;
+    private volatile long tickStart;
+    private volatile long tickNumber;
+    private long reportedTick = -1;
+    private long dumpedTick = -1;
+
+    public TickWatchdog(@NotNull ThreadDispatcher<?> dispatcher, long thresholdMs, long dumpThresholdMs) {
+        super(MinecraftServer.THREAD_NAME_WATCHDOG);
+        setDaemon(true);
+        this.dispatcher = dispatcher;
+        this.thresholdNs = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.dumpThresholdNs = TimeUnit.MILLISECONDS.toNanos(dumpThresholdMs);
+    }
+
+    public TickWatchdog(@NotNull ThreadDispatcher<?> dispatcher) {
+        this(dispatcher, ServerFlag.WATCHDOG_THRESHOLD, ServerFlag.WATCHDOG_DUMP_THRESHOLD);
+    }
+
+    /**
+     * Marks the start of a server tick in the current thread.
+     *
+     * @param nanoTime the tick start
+     */
+    public void tickStart(long nanoTime) {
+        this.tickerThread = Thread.currentThread();
+        this.tickNumber++;
+        this.tickStart = nanoTime;
+    }
+
+    public void tickEnd() {
+        this.tickStart = 0;
+    }
+
+    @Override
+    public void run() {
+        // Check a few times per threshold
+        final long checkInterval = Math.max(thresholdNs / 4, TimeUnit.MILLISECONDS.toNanos(10));
+        while (!stop) {
+            LockSupport.parkNanos(this, checkInterval);
+            final long tickStart = this.tickStart;
+            if (tickStart == 0) continue;
+            final long tick = this.tickNumber;
+            final long elapsed = System.nanoTime() - tickStart;
+            try {
+                if (elapsed >= thresholdNs && reportedTick != tick) {
+                    this.reportedTick = tick;
+                    report(elapsed);
+                }
+                if (dumpThresholdNs > 0 && elapsed >= dumpThresholdNs && dumpedTick != tick) {
+                    this.dumpedTick = tick;
+                    dump(elapsed);
+                }
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
+    /**
+     * Creates a report of the current tick.
+     *
+     * @param elapsed the time since the tick start
+     * @return the stall report
+     */
+    public @NotNull TickStallReport createReport(long elapsed) {
+        final Thread tickerThread = this.tickerThread;
+        List<TickStallReport.ThreadStall> stalls = new ArrayList<>();
+        for (TickThread thread : dispatcher.threads()) {
+            if (!thread.isTicking()) continue;
+            final long threadElapsed = System.nanoTime() - thread.tickStart();
+            stalls.add(new TickStallReport.ThreadStall(thread.getName(), TimeUnit.NANOSECONDS.toMillis(threadElapsed),
+                    thread.getStackTrace(), thread.currentPartition(), thread.currentElement()));
+        }
+        return new TickStallReport(TimeUnit.NANOSECONDS.toMillis(elapsed),
+                tickerThread != null ? tickerThread.getName() : "unknown",
+                tickerThread != null ? tickerThread.getStackTrace() : new StackTraceElement[0], stalls);
+    }
+
+    public void shutdown() {
+        this.stop = true;
+        LockSupport.unpark(this);
+    }
+
+    private void report(long elapsed) {
+        final TickStallReport report = createReport(elapsed);
+        LOGGER.warn(report.describe());
+        EventDispatcher.call(new ServerTickStallEvent(report));
+    }
+
+    private void dump(long elapsed) {
+        // Without locked monitors and synchronizers, which require a safepoint per thread
+        final ThreadInfo[] infos = ManagementFactory.getThreadMXBean().dumpAllThreads(false, false, DUMP_MAX_DEPTH);
+        StringBuilder builder = new StringBuilder();
+        builder.append("Server tick running for ").append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append("ms, thread dump:\n");
+        for (ThreadInfo info : infos) {
+            builder.append('"').append(info.getThreadName()).append("\" ").append(info.getThreadState()).append('\n');
+            for (StackTraceElement element : info.getStackTrace()) {
+                builder.append("\tat ").append(element).append('\n');
+            }
+        }
+        LOGGER.error(builder.toString());
+    }
+}
@@ -1,5 +1,7 @@
 package net.minestom.server.timer;
 
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Supplier;
@@ -10,11 +12,25 @@ import java.util.function.Supplier;
  * <p>
  * Tasks are by default executed in the caller thread.
  */
-public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
+public sealed interface Scheduler permits SchedulerImpl, SchedulerManager, TimingWheelScheduler {
     static @NotNull Scheduler newScheduler() {
+        if (ServerFlag.TIMING_WHEEL_SCHEDULER) return newTimingWheelScheduler();
         return new SchedulerImpl();
     }
 
+    /**
+     * Creates a scheduler storing its tasks in hierarchical timing wheels,
+     * with constant time scheduling and expiration, and no allocation until a task is submitted.
+     * <p>
+     * Asynchronous duration tasks are still scheduled on a shared executor.
+     *
+     * @return a new timing wheel scheduler
+     */
+    @ApiStatus.Experimental
+    static @NotNull Scheduler newTimingWheelScheduler() {
+        return new TimingWheelScheduler();
+    }
+
     /**
      * Process scheduled tasks based on time to increase scheduling precision.
      * <p>
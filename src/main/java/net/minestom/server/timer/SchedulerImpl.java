@@ -1,6 +1,7 @@
 package net.minestom.server.timer;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
+import net.minestom.server.thread.ServerExecutors;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
@@ -8,20 +9,18 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
-    private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+    static final AtomicInteger TASK_COUNTER = new AtomicInteger();
+    static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
         Thread thread = new Thread(r);
         thread.setDaemon(true);
         return thread;
     });
-    private static final ForkJoinPool EXECUTOR = ForkJoinPool.commonPool();
 
     private final MpscUnboundedArrayQueue<TaskImpl> taskQueue = new MpscUnboundedArrayQueue<>(64);
     // Tasks scheduled on a certain tick
@@ -54,7 +53,7 @@ final class SchedulerImpl implements Scheduler {
                 if (!task.isAlive()) return;
                 switch (task.executionType()) {
                     case SYNC -> handleTask(task);
-                    case ASYNC -> EXECUTOR.submit(() -> handleTask(task));
+                    case ASYNC -> ServerExecutors.async().execute(() -> handleTask(task));
                 }
             });
         }
@@ -79,7 +78,7 @@ final class SchedulerImpl implements Scheduler {
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
             case SYNC -> taskQueue.offer(task);
-            case ASYNC -> EXECUTOR.submit(() -> {
+            case ASYNC -> ServerExecutors.async().execute(() -> {
                 if (!task.isAlive()) {
                     return;
                 }
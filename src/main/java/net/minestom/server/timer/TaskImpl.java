@@ -21,15 +21,17 @@ final class TaskImpl implements Task {
     private final int id;
     private final @NotNull Supplier<TaskSchedule> task;
     private final @NotNull ExecutionType executionType;
-    private final @NotNull SchedulerImpl owner;
+    private final @NotNull Scheduler owner;
 
     volatile boolean alive;
     volatile boolean parked;
+    // Expiration time while in a timing wheel
+    long target;
 
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
              @NotNull ExecutionType executionType,
-             @NotNull SchedulerImpl owner) {
+             @NotNull Scheduler owner) {
         this.id = id;
         this.task = task;
         this.executionType = executionType;
@@ -39,7 +41,11 @@ final class TaskImpl implements Task {
 
     @Override
     public void unpark() {
-        this.owner.unparkTask(this);
+        if (owner instanceof SchedulerImpl scheduler) {
+            scheduler.unparkTask(this);
+        } else if (owner instanceof TimingWheelScheduler scheduler) {
+            scheduler.unparkTask(this);
+        }
     }
 
     boolean tryUnpark() {
@@ -73,7 +79,7 @@ final class TaskImpl implements Task {
         return executionType;
     }
 
-    public @NotNull SchedulerImpl owner() {
+    public @NotNull Scheduler owner() {
         return owner;
     }
 
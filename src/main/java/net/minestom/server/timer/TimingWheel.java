@@ -0,0 +1,125 @@
+package net.minestom.server.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel storing tasks by absolute target time.
+ * <p>
+ * Each level has 64 slots, a slot of level {@code n} covering 64^n time units, and is cascaded
+ * into the lower levels when the cursor reaches it. Insertion and expiration are constant time,
+ * slots are only allocated when a task is added to them.
+ * <p>
+ * Not thread-safe.
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 4;
+    // Delays beyond the last level are cascaded until they fit
+    private static final long MAX_DELAY = 1L << (SLOT_BITS * LEVEL_COUNT);
+
+    @SuppressWarnings("unchecked")
+    private final List<TaskImpl>[][] levels = new List[LEVEL_COUNT][];
+    private long cursor;
+    private int size;
+
+    /**
+     * Adds a task to the wheel.
+     *
+     * @param task   the task
+     * @param target the time at which the task expires
+     * @return true if the task has been added, false if it already expired
+     */
+    boolean add(@NotNull TaskImpl task, long target) {
+        final long delay = target - cursor;
+        if (delay <= 0) return false;
+        task.target = target;
+        insert(task, Math.min(delay, MAX_DELAY - 1));
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to {@code time}, included.
+     *
+     * @param time    the time to advance to
+     * @param expired consumer of the expired tasks
+     */
+    void advance(long time, @NotNull Consumer<TaskImpl> expired) {
+        while (cursor < time) {
+            if (size == 0) {
+                // Nothing to cascade, skip the idle time
+                this.cursor = time;
+                return;
+            }
+            final long now = ++cursor;
+            // Cascade higher levels first, so that their tasks can expire in the current slot
+            int level = 1;
+            while (level < LEVEL_COUNT && (now & ((1L << (SLOT_BITS * level)) - 1)) == 0) level++;
+            for (int i = level - 1; i >= 1; i--) cascade(i, now, expired);
+            final List<TaskImpl> tasks = take(0, slot(now, 0));
+            if (tasks != null) {
+                this.size -= tasks.size();
+                tasks.forEach(expired);
+            }
+        }
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void cascade(int level, long now, Consumer<TaskImpl> expired) {
+        final List<TaskImpl> tasks = take(level, slot(now, level));
+        if (tasks == null) return;
+        for (TaskImpl task : tasks) {
+            final long delay = task.target - now;
+            if (delay <= 0) {
+                this.size--;
+                expired.accept(task);
+            } else {
+                insert(task, Math.min(delay, MAX_DELAY - 1));
+            }
+        }
+    }
+
+    private void insert(TaskImpl task, long delay) {
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) level++;
+        final long target = cursor + delay;
+        List<TaskImpl>[] slots = levels[level];
+        if (slots == null) {
+            //noinspection unchecked
+            slots = new List[SLOT_COUNT];
+            this.levels[level] = slots;
+        }
+        final int slot = slot(target, level);
+        List<TaskImpl> tasks = slots[slot];
+        if (tasks == null) {
+            tasks = new ArrayList<>(2);
+            slots[slot] = tasks;
+        }
+        tasks.add(task);
+    }
+
+    private List<TaskImpl> take(int level, int slot) {
+        final List<TaskImpl>[] slots = levels[level];
+        if (slots == null) return null;
+        final List<TaskImpl> tasks = slots[slot];
+        slots[slot] = null;
+        return tasks;
+    }
+
+    private static int slot(long time, int level) {
+        return (int) (time >>> (SLOT_BITS * level)) & SLOT_MASK;
+    }
+}
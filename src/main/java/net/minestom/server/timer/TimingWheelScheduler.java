@@ -0,0 +1,142 @@
+package net.minestom.server.timer;
+
+import net.minestom.server.thread.ServerExecutors;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static net.minestom.server.timer.SchedulerImpl.SCHEDULER;
+import static net.minestom.server.timer.SchedulerImpl.TASK_COUNTER;
+
+/**
+ * Scheduler storing its tick and synchronous duration tasks in {@link TimingWheel timing wheels}.
+ * <p>
+ * Nothing is allocated until a task is submitted, and processing a scheduler without
+ * pending tasks does not take any lock.
+ */
+final class TimingWheelScheduler implements Scheduler {
+    private volatile MpscUnboundedArrayQueue<TaskImpl> taskQueue;
+    private TimingWheel tickWheel;
+    private TimingWheel durationWheel;
+
+    private volatile int tickState;
+    // Tasks waiting in the wheels
+    private volatile int pending;
+
+    @Override
+    public void process() {
+        processTick(0);
+    }
+
+    @Override
+    public void processTick() {
+        processTick(1);
+    }
+
+    private void processTick(int tickDelta) {
+        final int tick = this.tickState += tickDelta;
+        if (pending != 0) {
+            synchronized (this) {
+                if (tickWheel != null) tickWheel.advance(tick, this::offer);
+                if (durationWheel != null) durationWheel.advance(System.currentTimeMillis(), this::offer);
+                updatePending();
+            }
+        }
+        // Run all tasks lock-free, either in the current thread or pool
+        final MpscUnboundedArrayQueue<TaskImpl> taskQueue = this.taskQueue;
+        if (taskQueue != null && !taskQueue.isEmpty()) {
+            taskQueue.drain(task -> {
+                if (!task.isAlive()) return;
+                switch (task.executionType()) {
+                    case SYNC -> handleTask(task);
+                    case ASYNC -> ServerExecutors.async().execute(() -> handleTask(task));
+                }
+            });
+        }
+    }
+
+    @Override
+    public @NotNull Task submitTask(@NotNull Supplier<TaskSchedule> task,
+                                    @NotNull ExecutionType executionType) {
+        final TaskImpl taskRef = new TaskImpl(TASK_COUNTER.getAndIncrement(), task,
+                executionType, this);
+        handleTask(taskRef);
+        return taskRef;
+    }
+
+    void unparkTask(TaskImpl task) {
+        if (task.tryUnpark())
+            offer(task);
+    }
+
+    private void safeExecute(TaskImpl task) {
+        // Prevent the task from being executed in the current thread
+        // By either adding the task to the execution queue or submitting it to the pool
+        switch (task.executionType()) {
+            case SYNC -> offer(task);
+            case ASYNC -> ServerExecutors.async().execute(() -> {
+                if (!task.isAlive()) {
+                    return;
+                }
+                handleTask(task);
+            });
+        }
+    }
+
+    private void handleTask(TaskImpl task) {
+        final TaskSchedule schedule = task.task().get();
+        if (schedule instanceof TaskScheduleImpl.DurationSchedule durationSchedule) {
+            final long millis = durationSchedule.duration().toMillis();
+            if (task.executionType() == ExecutionType.ASYNC) {
+                // Executed as soon as possible, outside of the scheduler processing
+                SCHEDULER.schedule(() -> safeExecute(task), millis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            synchronized (this) {
+                if (durationWheel == null) this.durationWheel = new TimingWheel();
+                schedule(durationWheel, task, System.currentTimeMillis(), millis);
+            }
+        } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
+            synchronized (this) {
+                if (tickWheel == null) this.tickWheel = new TimingWheel();
+                schedule(tickWheel, task, tickState, tickSchedule.tick());
+            }
+        } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
+            futureSchedule.future().thenRun(() -> safeExecute(task));
+        } else if (schedule instanceof TaskScheduleImpl.Park) {
+            task.parked = true;
+        } else if (schedule instanceof TaskScheduleImpl.Stop) {
+            task.cancel();
+        } else if (schedule instanceof TaskScheduleImpl.Immediate) {
+            offer(task);
+        }
+    }
+
+    private void schedule(TimingWheel wheel, TaskImpl task, long now, long delay) {
+        // An empty wheel may not have followed the time, no task can expire
+        if (wheel.size() == 0) wheel.advance(now, this::offer);
+        if (!wheel.add(task, now + delay)) offer(task);
+        updatePending();
+    }
+
+    private void updatePending() {
+        this.pending = (tickWheel != null ? tickWheel.size() : 0) +
+                (durationWheel != null ? durationWheel.size() : 0);
+    }
+
+    private void offer(TaskImpl task) {
+        MpscUnboundedArrayQueue<TaskImpl> taskQueue = this.taskQueue;
+        if (taskQueue == null) {
+            synchronized (this) {
+                taskQueue = this.taskQueue;
+                if (taskQueue == null) {
+                    taskQueue = new MpscUnboundedArrayQueue<>(64);
+                    this.taskQueue = taskQueue;
+                }
+            }
+        }
+        taskQueue.relaxedOffer(task);
+    }
+}
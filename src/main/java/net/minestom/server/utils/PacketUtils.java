@@ -1,11 +1,5 @@
 package net.minestom.server.utils;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.LongArrayList;
-import it.unimi.dsi.fastutil.longs.LongList;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
@@ -18,10 +12,11 @@ import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.instance.BlockChangeAccumulator;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.compression.PacketCompression;
 import net.minestom.server.network.packet.server.*;
-import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jetbrains.annotations.ApiStatus;
@@ -35,8 +30,6 @@ import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
-import java.util.zip.Deflater;
-import java.util.zip.Inflater;
 
 /**
  * Utils class for packets. Including writing a {@link ServerPacket} into a {@link ByteBuffer}
@@ -47,11 +40,6 @@ import java.util.zip.Inflater;
  * Be sure to check the implementation code.
  */
 public final class PacketUtils {
-    private static final ThreadLocal<Deflater> LOCAL_DEFLATER = ThreadLocal.withInitial(Deflater::new);
-
-    // Viewable packets
-    private static final Cache<Viewable, ViewableStorage> VIEWABLE_STORAGE_MAP = Caffeine.newBuilder().weakKeys().build();
-
     private PacketUtils() {
     }
 
@@ -99,7 +87,19 @@ public final class PacketUtils {
      */
     public static void sendGroupedPacket(@NotNull Collection<Player> players, @NotNull ServerPacket packet,
                                          @NotNull Predicate<Player> predicate) {
-        final var sendablePacket = shouldUseCachePacket(packet) ? new CachedPacket(packet) : packet;
+        final SendablePacket sendablePacket;
+        if (!ServerFlag.GROUPED_PACKET) {
+            sendablePacket = packet;
+        } else if (requiresTranslation(packet)) {
+            // Translate and frame once per locale
+            final LocalizedPacketCache cache = new LocalizedPacketCache((ComponentHoldingServerPacket) packet);
+            players.forEach(player -> {
+                if (predicate.test(player)) player.sendPacket(cache.packet(player));
+            });
+            return;
+        } else {
+            sendablePacket = new CachedPacket(packet);
+        }
 
         players.forEach(player -> {
             if (predicate.test(player)) player.sendPacket(sendablePacket);
@@ -108,15 +108,23 @@ public final class PacketUtils {
 
     /**
      * Checks if the {@link ServerPacket} is suitable to be wrapped into a {@link CachedPacket}.
-     * Note: {@link ComponentHoldingServerPacket}s are not translated inside a {@link CachedPacket}.
+     * Note: {@link ComponentHoldingServerPacket}s are not translated inside a {@link CachedPacket},
+     * they are instead cached per locale using {@link LocalizedPacketCache}.
      *
      * @see CachedPacket#body(ConnectionState)
      * @see PlayerSocketConnection#writePacketSync(SendablePacket, boolean)
      */
     static boolean shouldUseCachePacket(final @NotNull ServerPacket packet) {
-        if (!MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION) return ServerFlag.GROUPED_PACKET;
-        if (!(packet instanceof ComponentHoldingServerPacket holder)) return ServerFlag.GROUPED_PACKET;
-        return !containsTranslatableComponents(holder);
+        return ServerFlag.GROUPED_PACKET && !requiresTranslation(packet);
+    }
+
+    /**
+     * Checks if the {@link ServerPacket} content depends on the locale of the receiver.
+     */
+    static boolean requiresTranslation(final @NotNull ServerPacket packet) {
+        if (!MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION) return false;
+        if (!(packet instanceof ComponentHoldingServerPacket holder)) return false;
+        return containsTranslatableComponents(holder);
     }
 
     private static boolean containsTranslatableComponents(final @NotNull ComponentHolder<?> holder) {
@@ -162,13 +170,13 @@ public final class PacketUtils {
             entity.sendPacketToViewers(serverPacket);
             return;
         }
-        if (!ServerFlag.VIEWABLE_PACKET) {
+        if (!ServerFlag.VIEWABLE_PACKET || requiresTranslation(serverPacket)) {
+            // Translatable packets cannot share the same bytes, they are grouped per locale instead
             sendGroupedPacket(viewable.getViewers(), serverPacket, value -> !Objects.equals(value, entity));
             return;
         }
         final Player exception = entity instanceof Player ? (Player) entity : null;
-        ViewableStorage storage = VIEWABLE_STORAGE_MAP.get(viewable, (unused) -> new ViewableStorage());
-        storage.append(viewable, serverPacket, exception);
+        ViewablePacketAggregator.append(viewable, serverPacket, exception);
     }
 
     @ApiStatus.Experimental
@@ -176,11 +184,47 @@ public final class PacketUtils {
         prepareViewablePacket(viewable, serverPacket, null);
     }
 
+    /**
+     * Appends already framed play packets (e.g. written by {@link DirectPacketEncoder}) to the viewable packets.
+     * <p>
+     * Unlike {@link #prepareViewablePacket(Viewable, ServerPacket, Entity)} there is no fallback,
+     * {@link ServerFlag#VIEWABLE_PACKET} must be enabled and the entity must have predictable viewers.
+     *
+     * @param viewable     the viewable whose viewers will receive the packets
+     * @param framedPacket the framed packets, from position to limit
+     * @param entity       the entity that should not receive the packets
+     */
+    @ApiStatus.Internal
+    public static void prepareViewablePacket(@NotNull Viewable viewable, @NotNull ByteBuffer framedPacket,
+                                             @Nullable Entity entity) {
+        assert ServerFlag.VIEWABLE_PACKET && (entity == null || entity.hasPredictableViewers());
+        final Player exception = entity instanceof Player ? (Player) entity : null;
+        ViewablePacketAggregator.append(viewable, framedPacket, exception);
+    }
+
+    /**
+     * Appends already framed low-priority packets of an entity (e.g. its movement) to the viewable packets,
+     * which are not sent to congested viewers far from the entity.
+     *
+     * @param viewable     the viewable whose viewers will receive the packets
+     * @param framedPacket the framed packets, from position to limit
+     * @param entity       the entity the packets are about, which does not receive them
+     * @see #prepareViewablePacket(Viewable, ByteBuffer, Entity)
+     */
+    @ApiStatus.Internal
+    public static void prepareLowPriorityPacket(@NotNull Viewable viewable, @NotNull ByteBuffer framedPacket,
+                                                @NotNull Entity entity) {
+        assert ServerFlag.VIEWABLE_PACKET && entity.hasPredictableViewers();
+        ViewablePacketAggregator.appendLowPriority(viewable, framedPacket, entity);
+    }
+
     @ApiStatus.Internal
     public static void flush() {
+        if (ServerFlag.BLOCK_CHANGE_BATCHING) {
+            BlockChangeAccumulator.flush();
+        }
         if (ServerFlag.VIEWABLE_PACKET) {
-            VIEWABLE_STORAGE_MAP.asMap().entrySet().parallelStream().forEach(entry ->
-                    entry.getValue().process(entry.getKey()));
+            ViewablePacketAggregator.flush(MinecraftServer.process().dispatcher());
         }
     }
 
@@ -215,10 +259,8 @@ public final class PacketUtils {
                         // Decompress to content buffer
                         content = BinaryBuffer.wrap(pool);
                         decompressedSize = dataLength;
-                        Inflater inflater = new Inflater(); // TODO: Pool?
-                        inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
-                        inflater.inflate(content.asByteBuffer(0, dataLength));
-                        inflater.reset();
+                        PacketCompression.inflate(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength),
+                                content.asByteBuffer(0, dataLength));
                     }
                 }
                 // Slice packet
@@ -253,9 +295,9 @@ public final class PacketUtils {
                                          int id,
                                          @NotNull NetworkBuffer.Writer writer,
                                          int compressionThreshold) {
-        NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
         if (compressionThreshold <= 0) {
             // Uncompressed format https://wiki.vg/Protocol#Without_compression
+            NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
             final int lengthIndex = networkBuffer.skipWrite(3);
             networkBuffer.write(NetworkBuffer.VAR_INT, id);
             networkBuffer.write(writer);
@@ -265,32 +307,64 @@ public final class PacketUtils {
             return;
         }
         // Compressed format https://wiki.vg/Protocol#With_compression
-        final int compressedIndex = networkBuffer.skipWrite(3);
-        final int uncompressedIndex = networkBuffer.skipWrite(3);
+        final int frameStart = buffer.position();
+        final int packetSize = writePacketContent(buffer, id, writer);
+        writeCompressedFrame(buffer, frameStart, packetSize, compressionThreshold, PacketCompression.level(writer));
+    }
 
+    /**
+     * Writes the uncompressed content (id + payload) of a packet, leaving space for the compressed format header.
+     * <p>
+     * The frame must then be completed using {@link #writeCompressedFrame(ByteBuffer, int, int, int, int)}.
+     *
+     * @param buffer the buffer to write to, starting at its position
+     * @return the uncompressed packet size
+     */
+    @ApiStatus.Internal
+    public static int writePacketContent(@NotNull ByteBuffer buffer, int id, @NotNull NetworkBuffer.Writer writer) {
+        NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
+        networkBuffer.skipWrite(6); // Packet length + Data length
         final int contentStart = networkBuffer.writeIndex();
         networkBuffer.write(NetworkBuffer.VAR_INT, id);
         networkBuffer.write(writer);
-        final int packetSize = networkBuffer.writeIndex() - contentStart;
+        return networkBuffer.writeIndex() - contentStart;
+    }
+
+    @ApiStatus.Internal
+    public static int writePacketContent(@NotNull ConnectionState state, @NotNull ByteBuffer buffer, @NotNull ServerPacket packet) {
+        return writePacketContent(buffer, packet.getId(state), packet);
+    }
+
+    /**
+     * Compresses (if above the threshold) the content written by {@link #writePacketContent(ByteBuffer, int, NetworkBuffer.Writer)}
+     * and writes the frame header.
+     *
+     * @param buffer               the buffer containing the packet content
+     * @param frameStart           the position of the buffer before the content was written
+     * @param packetSize           the uncompressed packet size
+     * @param compressionThreshold the compression threshold
+     * @param level                the deflate level
+     */
+    @ApiStatus.Internal
+    public static void writeCompressedFrame(@NotNull ByteBuffer buffer, int frameStart, int packetSize,
+                                            int compressionThreshold, int level) {
+        final int compressedIndex = frameStart;
+        final int uncompressedIndex = frameStart + 3;
+        final int contentStart = frameStart + 6;
         final boolean compressed = packetSize >= compressionThreshold;
+        int contentSize = packetSize;
         if (compressed) {
             // Packet large enough, compress it
             try (var hold = ObjectPool.PACKET_POOL.hold()) {
                 final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
-                Deflater deflater = LOCAL_DEFLATER.get();
-                deflater.setInput(input.limit(packetSize));
-                deflater.finish();
-                deflater.deflate(buffer.position(contentStart));
-                deflater.reset();
-
-                networkBuffer.skipWrite(buffer.position() - contentStart);
+                contentSize = PacketCompression.deflate(input.limit(packetSize), buffer.position(contentStart), level);
             }
         }
         // Packet header (Packet + Data Length)
-        Utils.writeVarIntHeader(buffer, compressedIndex, networkBuffer.writeIndex() - uncompressedIndex);
+        Utils.writeVarIntHeader(buffer, compressedIndex, contentStart + contentSize - uncompressedIndex);
         Utils.writeVarIntHeader(buffer, uncompressedIndex, compressed ? packetSize : 0);
 
-        buffer.position(networkBuffer.writeIndex());
+        buffer.position(contentStart + contentSize);
     }
 
     @ApiStatus.Internal
@@ -314,76 +388,6 @@ public final class PacketUtils {
         }
     }
 
-    private static final class ViewableStorage {
-        // Player id -> list of offsets to ignore (32:32 bits)
-        private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.getAndRegister(this);
-
-        private synchronized void append(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception) {
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                // Viewable storage is only used for play packets, so fine to assume this.
-                final ByteBuffer framedPacket = createFramedPacket(ConnectionState.PLAY, hold.get(), serverPacket);
-                final int packetSize = framedPacket.limit();
-                if (packetSize >= buffer.capacity()) {
-                    process(viewable);
-                    for (Player viewer : viewable.getViewers()) {
-                        if (!Objects.equals(exception, viewer)) {
-                            writeTo(viewer.getPlayerConnection(), framedPacket, 0, packetSize);
-                        }
-                    }
-                    return;
-                }
-                if (!buffer.canWrite(packetSize)) process(viewable);
-                final int start = buffer.writerOffset();
-                this.buffer.write(framedPacket);
-                final int end = buffer.writerOffset();
-                if (exception != null) {
-                    final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
-                    LongList list = entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList());
-                    list.add(offsets);
-                }
-            }
-        }
-
-        private synchronized void process(Viewable viewable) {
-            if (buffer.writerOffset() == 0) return;
-            ByteBuffer copy = ByteBuffer.allocateDirect(buffer.writerOffset());
-            copy.put(buffer.asByteBuffer(0, copy.capacity()));
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
-            this.entityIdMap.clear();
-        }
-
-        private void processPlayer(Player player, ByteBuffer buffer) {
-            final int size = buffer.limit();
-            final PlayerConnection connection = player.getPlayerConnection();
-            final LongArrayList pairs = entityIdMap.get(player.getEntityId());
-            if (pairs != null) {
-                // Ensure that we skip the specified parts of the buffer
-                int lastWrite = 0;
-                final long[] elements = pairs.elements();
-                for (int i = 0; i < pairs.size(); ++i) {
-                    final long offsets = elements[i];
-                    final int start = (int) (offsets >> 32);
-                    if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
-                    lastWrite = (int) offsets; // End = last 32 bits
-                }
-                if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite);
-            } else {
-                // Write all
-                writeTo(connection, buffer, 0, size);
-            }
-        }
-
-        private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
-            if (connection instanceof PlayerSocketConnection socketConnection) {
-                socketConnection.write(buffer, offset, length);
-                return;
-            }
-            // TODO for non-socket connection
-        }
-    }
-
     @ApiStatus.Internal
     public static int invalidPacketState(@NotNull Class<?> packetClass, @NotNull ConnectionState state, @NotNull ConnectionState... expected) {
         StringBuilder expectedStr = new StringBuilder();
@@ -0,0 +1,369 @@
+package net.minestom.server.utils;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.TickThread;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects the framed packets sent to viewables during a tick, to send them as a single buffer to each viewer.
+ * <p>
+ * Each {@link TickThread} owns an aggregator, appending is therefore lock-free.
+ * Other threads share a single synchronized aggregator.
+ * All aggregators are merged and flushed once per tick using {@link #flush(ThreadDispatcher)},
+ * the merged viewables are then sent in parallel by the tick threads.
+ */
+@ApiStatus.Internal
+public final class ViewablePacketAggregator {
+    private static final List<ViewablePacketAggregator> AGGREGATORS = new CopyOnWriteArrayList<>();
+    // Below this number of viewables per thread, the flush is not worth waking up the tick threads
+    private static final int MIN_VIEWABLES_PER_THREAD = 32;
+    // Low-priority packets of entities closer than this distance are never dropped
+    private static final double NEAR_ENTITY_DISTANCE_SQUARED = 16 * 16;
+    private static final ViewablePacketAggregator SHARED = create();
+
+    private final Map<Viewable, Storage> storages = new IdentityHashMap<>();
+
+    private ViewablePacketAggregator() {
+    }
+
+    /**
+     * Creates a new aggregator, flushed by {@link #flush()} until {@link #close()} is called.
+     *
+     * @return a new aggregator, to be used by a single thread
+     */
+    public static @NotNull ViewablePacketAggregator create() {
+        ViewablePacketAggregator aggregator = new ViewablePacketAggregator();
+        AGGREGATORS.add(aggregator);
+        return aggregator;
+    }
+
+    /**
+     * Appends a packet to the current thread aggregator.
+     *
+     * @param viewable     the viewable whose viewers will receive the packet
+     * @param serverPacket the packet to send
+     * @param exception    the player that should not receive the packet
+     */
+    public static void append(@NotNull Viewable viewable, @NotNull ServerPacket serverPacket, @Nullable Player exception) {
+        final TickThread tickThread = TickThread.current();
+        if (tickThread != null) {
+            tickThread.viewableAggregator().appendLocal(viewable, serverPacket, exception);
+        } else {
+            synchronized (SHARED) {
+                SHARED.appendLocal(viewable, serverPacket, exception);
+            }
+        }
+    }
+
+    /**
+     * Appends already framed packets to the current thread aggregator.
+     *
+     * @param viewable     the viewable whose viewers will receive the packets
+     * @param framedPacket the framed packets, from position to limit, copied before returning
+     * @param exception    the player that should not receive the packets
+     */
+    public static void append(@NotNull Viewable viewable, @NotNull ByteBuffer framedPacket, @Nullable Player exception) {
+        final TickThread tickThread = TickThread.current();
+        if (tickThread != null) {
+            tickThread.viewableAggregator().appendLocal(viewable, framedPacket, exception, null);
+        } else {
+            synchronized (SHARED) {
+                SHARED.appendLocal(viewable, framedPacket, exception, null);
+            }
+        }
+    }
+
+    /**
+     * Appends already framed low-priority packets of an entity to the current thread aggregator.
+     * <p>
+     * Viewers whose connection is congested (see {@link PlayerSocketConnection#isCongested()})
+     * do not receive them unless they are close to the entity.
+     *
+     * @param viewable     the viewable whose viewers will receive the packets
+     * @param framedPacket the framed packets, from position to limit, copied before returning
+     * @param entity       the entity the packets are about, also the player that should not receive them
+     */
+    public static void appendLowPriority(@NotNull Viewable viewable, @NotNull ByteBuffer framedPacket, @NotNull Entity entity) {
+        final Player exception = entity instanceof Player player ? player : null;
+        final TickThread tickThread = TickThread.current();
+        if (tickThread != null) {
+            tickThread.viewableAggregator().appendLocal(viewable, framedPacket, exception, entity);
+        } else {
+            synchronized (SHARED) {
+                SHARED.appendLocal(viewable, framedPacket, exception, entity);
+            }
+        }
+    }
+
+    /**
+     * Sends the packets of all aggregators, packets of a same viewable are merged into a single buffer.
+     * <p>
+     * Must be called while no tick thread is running.
+     */
+    public static void flush() {
+        final Merged merged = merge();
+        if (merged != null) merged.process(0, 1);
+    }
+
+    /**
+     * Sends the packets of all aggregators, packets of a same viewable are merged into a single buffer.
+     * <p>
+     * The viewables are split between the tick threads of {@code dispatcher}, which send them in parallel.
+     * Must be called while the dispatcher is not ticking.
+     *
+     * @param dispatcher the dispatcher whose threads send the packets
+     */
+    public static void flush(@NotNull ThreadDispatcher<?> dispatcher) {
+        final Merged merged = merge();
+        if (merged == null) return;
+        final int parallelism = Math.min(dispatcher.threads().size(), merged.size() / MIN_VIEWABLES_PER_THREAD);
+        if (parallelism <= 1) {
+            merged.process(0, 1);
+            return;
+        }
+        dispatcher.runAndAwait(index -> {
+            if (index < parallelism) merged.process(index, parallelism);
+        });
+    }
+
+    /**
+     * Stops flushing this aggregator, remaining packets are sent immediately.
+     * <p>
+     * Must be called from the thread appending to this aggregator.
+     */
+    public void close() {
+        AGGREGATORS.remove(this);
+        synchronized (this) {
+            for (Map.Entry<Viewable, Storage> entry : storages.entrySet()) {
+                process(entry.getKey(), List.of(entry.getValue()), true);
+            }
+            this.storages.clear();
+        }
+    }
+
+    private static @Nullable Merged merge() {
+        Map<Viewable, Object> merged = new IdentityHashMap<>();
+        for (ViewablePacketAggregator aggregator : AGGREGATORS) {
+            // Also excludes a concurrent close
+            synchronized (aggregator) {
+                aggregator.collect(merged);
+            }
+        }
+        if (merged.isEmpty()) return null;
+        final int size = merged.size();
+        Viewable[] viewables = new Viewable[size];
+        Object[] storages = new Object[size];
+        int index = 0;
+        for (Map.Entry<Viewable, Object> entry : merged.entrySet()) {
+            viewables[index] = entry.getKey();
+            storages[index++] = entry.getValue();
+        }
+        return new Merged(viewables, storages);
+    }
+
+    private void appendLocal(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            // Viewable storage is only used for play packets, so fine to assume this.
+            final ByteBuffer framedPacket = PacketUtils.createFramedPacket(ConnectionState.PLAY, hold.get(), serverPacket);
+            appendLocal(viewable, framedPacket, exception, null);
+        }
+    }
+
+    /**
+     * @param source the entity of a low-priority packet, null if the packet is always sent
+     */
+    private void appendLocal(Viewable viewable, ByteBuffer framedPacket, @Nullable Player exception, @Nullable Entity source) {
+        Storage storage = storages.get(viewable);
+        if (storage == null) {
+            storage = new Storage();
+            this.storages.put(viewable, storage);
+        }
+        final int packetStart = framedPacket.position();
+        final int packetSize = framedPacket.remaining();
+        final BinaryBuffer buffer = storage.buffer;
+        if (packetSize >= buffer.capacity()) {
+            process(viewable, List.of(storage), false);
+            // The framed packet may be reused before the workers write it
+            ByteBuffer copy = ByteBuffer.allocateDirect(packetSize).put(0, framedPacket, packetStart, packetSize);
+            final boolean congested = source != null && PlayerSocketConnection.congestedConnections() > 0;
+            for (Player viewer : viewable.getViewers()) {
+                if (!Objects.equals(exception, viewer) && !(congested && drop(viewer, source))) {
+                    writeTo(viewer.getPlayerConnection(), copy, 0, packetSize);
+                }
+            }
+            return;
+        }
+        if (!buffer.canWrite(packetSize)) process(viewable, List.of(storage), false);
+        final int start = buffer.writerOffset();
+        buffer.write(framedPacket);
+        final int end = buffer.writerOffset();
+        final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
+        if (exception != null) {
+            storage.entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList()).add(offsets);
+        }
+        if (source != null && PlayerSocketConnection.congestedConnections() > 0) {
+            for (Player viewer : viewable.getViewers()) {
+                if (!Objects.equals(exception, viewer) && drop(viewer, source)) {
+                    storage.entityIdMap.computeIfAbsent(viewer.getEntityId(), id -> new LongArrayList()).add(offsets);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a low-priority packet should not be sent to a viewer, counting it as dropped.
+     */
+    private static boolean drop(Player viewer, Entity source) {
+        if (!(viewer.getPlayerConnection() instanceof PlayerSocketConnection connection) || !connection.isCongested()) {
+            return false;
+        }
+        if (viewer.getPosition().distanceSquared(source.getPosition()) <= NEAR_ENTITY_DISTANCE_SQUARED) return false;
+        connection.dropPacket();
+        return true;
+    }
+
+    private void collect(Map<Viewable, Object> merged) {
+        if (storages.isEmpty()) return;
+        for (Map.Entry<Viewable, Storage> entry : storages.entrySet()) {
+            final Storage storage = entry.getValue();
+            merged.merge(entry.getKey(), storage, (previous, unused) -> {
+                if (previous instanceof Storage previousStorage) {
+                    List<Storage> list = new ArrayList<>(2);
+                    list.add(previousStorage);
+                    list.add(storage);
+                    return list;
+                }
+                //noinspection unchecked
+                ((List<Storage>) previous).add(storage);
+                return previous;
+            });
+        }
+        this.storages.clear();
+    }
+
+    /**
+     * Sends the content of multiple storages to the viewers.
+     *
+     * @param release true to give the storage buffers back to the pool, false to clear them for reuse
+     */
+    private static void process(Viewable viewable, List<Storage> storages, boolean release) {
+        int size = 0;
+        for (Storage storage : storages) size += storage.buffer.writerOffset();
+        if (size == 0) {
+            for (Storage storage : storages) storage.clear(release);
+            return;
+        }
+        // Merge the buffers and their ignored parts
+        ByteBuffer copy = ByteBuffer.allocateDirect(size);
+        Int2ObjectMap<LongArrayList> entityIdMap = null;
+        int base = 0;
+        for (Storage storage : storages) {
+            final int storageSize = storage.buffer.writerOffset();
+            copy.put(base, storage.buffer.asByteBuffer(0, storageSize), 0, storageSize);
+            if (!storage.entityIdMap.isEmpty()) {
+                if (entityIdMap == null) entityIdMap = new Int2ObjectOpenHashMap<>();
+                for (Int2ObjectMap.Entry<LongArrayList> entry : storage.entityIdMap.int2ObjectEntrySet()) {
+                    LongArrayList target = entityIdMap.computeIfAbsent(entry.getIntKey(), id -> new LongArrayList());
+                    final LongArrayList pairs = entry.getValue();
+                    for (int i = 0; i < pairs.size(); i++) {
+                        final long offsets = pairs.getLong(i);
+                        final long start = (offsets >> 32) + base;
+                        final long end = (int) offsets + base;
+                        target.add(start << 32 | end & 0xFFFFFFFFL);
+                    }
+                }
+            }
+            base += storageSize;
+            storage.clear(release);
+        }
+        final Int2ObjectMap<LongArrayList> ignored = entityIdMap;
+        viewable.getViewers().forEach(player -> processPlayer(player, copy, ignored));
+    }
+
+    private static void processPlayer(Player player, ByteBuffer buffer, @Nullable Int2ObjectMap<LongArrayList> entityIdMap) {
+        final int size = buffer.limit();
+        final PlayerConnection connection = player.getPlayerConnection();
+        final LongArrayList pairs = entityIdMap != null ? entityIdMap.get(player.getEntityId()) : null;
+        if (pairs != null) {
+            // Ensure that we skip the specified parts of the buffer
+            int lastWrite = 0;
+            final long[] elements = pairs.elements();
+            for (int i = 0; i < pairs.size(); ++i) {
+                final long offsets = elements[i];
+                final int start = (int) (offsets >> 32);
+                if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
+                lastWrite = (int) offsets; // End = last 32 bits
+            }
+            if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite);
+        } else {
+            // Write all
+            writeTo(connection, buffer, 0, size);
+        }
+    }
+
+    private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
+        if (connection instanceof PlayerSocketConnection socketConnection) {
+            socketConnection.write(buffer, offset, length);
+            return;
+        }
+        // TODO for non-socket connection
+    }
+
+    /**
+     * Storages of all the aggregators, a value is either a single {@link Storage} or a list of them.
+     */
+    private record Merged(Viewable[] viewables, Object[] storages) {
+        int size() {
+            return viewables.length;
+        }
+
+        void process(int start, int step) {
+            for (int i = start; i < viewables.length; i += step) {
+                final Object value = storages[i];
+                try {
+                    if (value instanceof Storage storage) {
+                        ViewablePacketAggregator.process(viewables[i], List.of(storage), true);
+                    } else {
+                        //noinspection unchecked
+                        ViewablePacketAggregator.process(viewables[i], (List<Storage>) value, true);
+                    }
+                } catch (Throwable t) {
+                    MinecraftServer.getExceptionManager().handleException(t);
+                }
+            }
+        }
+    }
+
+    private static final class Storage {
+        // Player id -> list of offsets to ignore (32:32 bits)
+        private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
+        private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.get();
+
+        private void clear(boolean release) {
+            this.entityIdMap.clear();
+            if (release) {
+                ObjectPool.BUFFER_POOL.add(buffer);
+            } else {
+                this.buffer.clear();
+            }
+        }
+    }
+}
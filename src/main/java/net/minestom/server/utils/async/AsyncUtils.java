@@ -1,10 +1,12 @@
 package net.minestom.server.utils.async;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.thread.ServerExecutors;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @ApiStatus.Internal
 public final class AsyncUtils {
@@ -16,12 +18,16 @@ public final class AsyncUtils {
     }
 
     public static @NotNull CompletableFuture<Void> runAsync(@NotNull Runnable runnable) {
+        return runAsync(ServerExecutors.async(), runnable);
+    }
+
+    public static @NotNull CompletableFuture<Void> runAsync(@NotNull Executor executor, @NotNull Runnable runnable) {
         return CompletableFuture.runAsync(() -> {
             try {
                 runnable.run();
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
-        });
+        }, executor);
     }
 }
@@ -7,6 +7,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTWriter;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -162,6 +163,51 @@ public final class BinaryBuffer {
         return writeBuffer.limit() == writeBuffer.position();
     }
 
+    /**
+     * Writes the readable bytes of multiple buffers using a single gathering write.
+     * <p>
+     * The reader offset of each buffer is advanced by the amount that has been written,
+     * so partial progress is kept across buffers.
+     *
+     * @param channel      the channel to write to
+     * @param buffers      the buffers to write, in order
+     * @param writeBuffers reusable array receiving the readable part of each buffer, at least {@code length} long
+     * @param length       the number of buffers to consider, starting from index 0
+     * @return the number of leading buffers that have been fully written
+     * @throws IOException if the channel has been closed
+     */
+    public static int writeChannel(GatheringByteChannel channel, BinaryBuffer[] buffers,
+                                   ByteBuffer[] writeBuffers, int length) throws IOException {
+        long remaining = 0;
+        for (int i = 0; i < length; i++) {
+            final BinaryBuffer buffer = buffers[i];
+            remaining += buffer.writerOffset - buffer.readerOffset;
+        }
+        if (remaining == 0)
+            return length; // Nothing to write
+        for (int i = 0; i < length; i++) {
+            final BinaryBuffer buffer = buffers[i];
+            writeBuffers[i] = buffer.nioBuffer.slice(buffer.readerOffset, buffer.writerOffset - buffer.readerOffset);
+        }
+        long count = channel.write(writeBuffers, 0, length);
+        if (count == -1) {
+            // EOS
+            throw new IOException("Disconnected");
+        }
+        // Distribute the written bytes across the buffers
+        for (int i = 0; i < length; i++) {
+            final BinaryBuffer buffer = buffers[i];
+            final int readable = buffer.writerOffset - buffer.readerOffset;
+            if (count < readable) {
+                buffer.readerOffset += (int) count;
+                return i;
+            }
+            buffer.readerOffset += readable;
+            count -= readable;
+        }
+        return length;
+    }
+
     public void readChannel(ReadableByteChannel channel) throws IOException {
         final int count = channel.read(nioBuffer.slice(writerOffset, capacity - writerOffset));
         if (count == -1) {
@@ -1,6 +1,7 @@
 package net.minestom.server.world;
 
 import net.minestom.server.utils.NamespaceID;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jglrxavpok.hephaistos.nbt.NBT;
@@ -10,6 +11,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTType;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Allows servers to register custom dimensions. Also used during player login to send the list of all existing dimensions.
@@ -19,6 +21,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public final class DimensionTypeManager {
 
     private final List<DimensionType> dimensionTypes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger version = new AtomicInteger();
 
     public DimensionTypeManager() {
         addDimension(DimensionType.OVERWORLD);
@@ -32,6 +35,7 @@ public final class DimensionTypeManager {
     public void addDimension(@NotNull DimensionType dimensionType) {
         dimensionType.registered = true;
         this.dimensionTypes.add(dimensionType);
+        this.version.incrementAndGet();
     }
 
     /**
@@ -42,7 +46,9 @@ public final class DimensionTypeManager {
      */
     public boolean removeDimension(@NotNull DimensionType dimensionType) {
         dimensionType.registered = false;
-        return dimensionTypes.remove(dimensionType);
+        final boolean removed = dimensionTypes.remove(dimensionType);
+        if (removed) this.version.incrementAndGet();
+        return removed;
     }
 
     /**
@@ -98,4 +104,17 @@ public final class DimensionTypeManager {
             ));
         });
     }
+
+    /**
+     * Gets the version of the registered dimension types, incremented on every change.
+     * <p>
+     * Used to invalidate the cached registry packets.
+     *
+     * @return the current version
+     */
+    @ApiStatus.Internal
+    public int version() {
+        return version.get();
+    }
+
 }
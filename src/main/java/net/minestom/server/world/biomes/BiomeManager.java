@@ -1,6 +1,7 @@
 package net.minestom.server.world.biomes;
 
 import net.minestom.server.utils.NamespaceID;
+import org.jetbrains.annotations.ApiStatus;
 import org.jglrxavpok.hephaistos.nbt.NBT;
 import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import org.jglrxavpok.hephaistos.nbt.NBTType;
@@ -9,6 +10,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -18,6 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class BiomeManager {
     private final Map<Integer, Biome> biomes = new ConcurrentHashMap<>();
+    private final AtomicInteger version = new AtomicInteger();
 
     public BiomeManager() {
         addBiome(Biome.PLAINS);
@@ -30,6 +33,7 @@ public final class BiomeManager {
      */
     public void addBiome(Biome biome) {
         this.biomes.put(biome.id(), biome);
+        this.version.incrementAndGet();
     }
 
     /**
@@ -38,7 +42,7 @@ public final class BiomeManager {
      * @param biome the biome to remove
      */
     public void removeBiome(Biome biome) {
-        this.biomes.remove(biome.id());
+        if (this.biomes.remove(biome.id()) != null) this.version.incrementAndGet();
     }
 
     /**
@@ -76,4 +80,17 @@ public final class BiomeManager {
                 "type", NBT.String("minecraft:worldgen/biome"),
                 "value", NBT.List(NBTType.TAG_Compound, biomes.values().stream().map(Biome::toNbt).toList())));
     }
+
+    /**
+     * Gets the version of the registered biomes, incremented on every change.
+     * <p>
+     * Used to invalidate the cached registry packets.
+     *
+     * @return the current version
+     */
+    @ApiStatus.Internal
+    public int version() {
+        return version.get();
+    }
+
 }
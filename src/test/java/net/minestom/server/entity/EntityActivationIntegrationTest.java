@@ -0,0 +1,97 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityActivationIntegrationTest {
+
+    @Test
+    public void playerActivation(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setActivationRange(new ActivationRange(16, 0));
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+
+        // Past the spawn activation
+        final long time = System.currentTimeMillis() + 10_000;
+        final long ticks = entity.getAliveTicks();
+        entity.tick(time);
+        assertEquals(ticks, entity.getAliveTicks());
+
+        var player = env.createPlayer(instance, new Pos(100, 42, 0));
+        ActivationRange.activateAround(player, time);
+        entity.tick(time);
+        assertEquals(ticks, entity.getAliveTicks(), "Player is out of range");
+
+        player.teleport(new Pos(5, 42, 0)).join();
+        ActivationRange.activateAround(player, time);
+        entity.tick(time);
+        assertEquals(ticks + 1, entity.getAliveTicks());
+    }
+
+    @Test
+    public void reducedRate(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setActivationRange(new ActivationRange(16, 5));
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+
+        final long time = System.currentTimeMillis() + 10_000;
+        final long ticks = entity.getAliveTicks();
+        for (int i = 0; i < 10; i++) entity.tick(time);
+        assertEquals(ticks + 2, entity.getAliveTicks());
+
+        // Scheduled tasks are still processed every tick
+        var counter = new AtomicInteger();
+        entity.scheduler().scheduleNextTick(counter::incrementAndGet);
+        entity.tick(time);
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void gravity(Env env) {
+        var instance = env.createFlatInstance();
+        final long time = System.currentTimeMillis() + 10_000;
+
+        var grounded = new EntityCreature(EntityType.ZOMBIE);
+        grounded.setActivationRange(new ActivationRange(16, 0));
+        grounded.setInstance(instance, new Pos(0, 40, 0)).join();
+        for (int i = 0; i < 5; i++) grounded.tick(time);
+        assertTrue(grounded.isOnGround());
+        final long groundedTicks = grounded.getAliveTicks();
+        grounded.tick(time);
+        assertEquals(groundedTicks, grounded.getAliveTicks(), "Idle grounded entity should be inactive");
+
+        // Falling entities are kept active until they land
+        var falling = new EntityCreature(EntityType.ZOMBIE);
+        falling.setActivationRange(new ActivationRange(16, 0));
+        falling.setInstance(instance, new Pos(5, 60, 0)).join();
+        final long fallingTicks = falling.getAliveTicks();
+        for (int i = 0; i < 3; i++) falling.tick(time);
+        assertEquals(fallingTicks + 3, falling.getAliveTicks());
+        assertFalse(falling.isOnGround());
+        assertTrue(falling.getPosition().y() < 60);
+    }
+
+    @Test
+    public void alwaysActive(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        assertNull(entity.getActivationRange());
+
+        final long ticks = entity.getAliveTicks();
+        entity.tick(System.currentTimeMillis() + 10_000);
+        assertEquals(ticks + 1, entity.getAliveTicks());
+    }
+}
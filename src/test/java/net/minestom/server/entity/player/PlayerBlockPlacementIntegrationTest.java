@@ -1,6 +1,7 @@
 package net.minestom.server.entity.player;
 
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.GameMode;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.block.Block;
@@ -8,15 +9,20 @@ import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.network.packet.client.play.ClientPlayerBlockPlacementPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.AcknowledgeBlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class PlayerBlockPlacementIntegrationTest {
@@ -46,6 +52,40 @@ public class PlayerBlockPlacementIntegrationTest {
         assertEquals("minecraft:white_wool", placedBlock.name());
     }
 
+    @Test
+    public void blockChangeBeforeAcknowledgement(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        player.setItemInMainHand(ItemStack.of(Material.STONE));
+
+        var tracker = connection.trackIncoming();
+        player.addPacketToQueue(new ClientPlayerBlockPlacementPacket(
+                Player.Hand.MAIN, new Pos(2, 39, 0), BlockFace.TOP,
+                1f, 1f, 1f,
+                false, 5
+        ));
+        player.interpretPacketQueue();
+        env.tick();
+
+        // The client would otherwise revert its predicted block until the end of the tick
+        List<ServerPacket> packets = tracker.collect();
+        int changeIndex = -1, ackIndex = -1;
+        for (int i = 0; i < packets.size(); i++) {
+            final ServerPacket packet = packets.get(i);
+            if (packet instanceof BlockChangePacket change && change.blockPosition().sameBlock(new Vec(2, 40, 0))) {
+                assertEquals(Block.STONE.stateId(), change.blockStateId());
+                if (changeIndex == -1) changeIndex = i;
+            } else if (packet instanceof AcknowledgeBlockChangePacket ack) {
+                assertEquals(5, ack.sequence());
+                ackIndex = i;
+            }
+        }
+        assertNotEquals(-1, changeIndex);
+        assertNotEquals(-1, ackIndex);
+        assertTrue(changeIndex < ackIndex, "Block change sent after the acknowledgement");
+    }
+
     private static Stream<Arguments> placeBlockFromAdventureModeParams() {
         return Stream.of(
                 Arguments.of(Block.ACACIA_STAIRS.withProperty("facing", "south"), Block.ACACIA_STAIRS),
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -227,4 +228,31 @@ public class PlayerIntegrationTest {
                 .count();
         assertEquals(2, displayNamePackets3);
     }
+
+    @Test
+    public void latencyBatchTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+        var player2 = env.createPlayer(instance, new Pos(0, 42, 0));
+        var aggregator = env.process().connection().getLatencyAggregator();
+        aggregator.flush();
+
+        var tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        player.refreshLatency(100);
+        player2.refreshLatency(200);
+        tracker.assertEmpty();
+        aggregator.flush();
+        tracker.assertSingle(packet -> {
+            assertEquals(EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY), packet.actions());
+            assertEquals(2, packet.entries().size());
+        });
+
+        // Insignificant change
+        tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        player.refreshLatency(101);
+        aggregator.flush();
+        tracker.assertEmpty();
+        assertEquals(101, player.getLatency());
+    }
 }
@@ -0,0 +1,110 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class BlockChangeBatchingIntegrationTest {
+
+    @Test
+    public void sectionBatching(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        for (int x = 0; x < 10; x++) {
+            instance.setBlock(x, 50, 3, Block.STONE);
+        }
+        instance.setBlock(2, 70, 4, Block.DIRT);
+        singleTracker.assertEmpty();
+        multiTracker.assertEmpty();
+
+        env.tick();
+        multiTracker.assertSingle(packet -> {
+            assertEquals(new MultiBlockChangePacket(0, 3, 0, new long[0]).chunkSectionPosition(), packet.chunkSectionPosition());
+            assertEquals(10, packet.blocks().length);
+            for (long entry : packet.blocks()) {
+                assertEquals(Block.STONE.stateId(), entry >>> 12);
+                assertEquals(3, (entry >> 4) & 0xF); // z
+                assertEquals(2, entry & 0xF); // y
+            }
+        });
+        singleTracker.assertSingle(packet -> {
+            assertEquals(new Vec(2, 70, 4), packet.blockPosition());
+            assertEquals(Block.DIRT.stateId(), packet.blockStateId());
+        });
+    }
+
+    @Test
+    public void lastChange(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var tracker = connection.trackIncoming(BlockChangePacket.class);
+        instance.setBlock(5, 41, 0, Block.STONE);
+        instance.setBlock(5, 41, 0, Block.DIRT);
+        env.tick();
+        tracker.assertSingle(packet -> {
+            assertEquals(new Vec(5, 41, 0), packet.blockPosition());
+            assertEquals(Block.DIRT.stateId(), packet.blockStateId());
+        });
+
+        var nextTracker = connection.trackIncoming(BlockChangePacket.class);
+        env.tick();
+        nextTracker.assertEmpty();
+    }
+
+    @Test
+    public void blockEntities(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var tracker = connection.trackIncoming(BlockEntityDataPacket.class);
+        instance.setBlock(5, 41, 0, Block.OAK_SIGN);
+        instance.setBlock(5, 41, 0, Block.OAK_SIGN);
+        instance.setBlock(6, 41, 0, Block.OAK_SIGN);
+        instance.setBlock(6, 41, 0, Block.STONE);
+        env.tick();
+        tracker.assertSingle(packet -> {
+            assertEquals(new Vec(5, 41, 0), packet.blockPosition());
+            assertEquals(Block.OAK_SIGN.registry().blockEntityId(), packet.action());
+        });
+    }
+
+    @Test
+    public void resendThreshold(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        int count = 0;
+        for (int y = 48; count <= ServerFlag.BLOCK_CHANGE_RESEND_THRESHOLD; y++) {
+            for (int x = 0; x < Chunk.CHUNK_SIZE_X && count <= ServerFlag.BLOCK_CHANGE_RESEND_THRESHOLD; x++) {
+                for (int z = 0; z < Chunk.CHUNK_SIZE_Z && count <= ServerFlag.BLOCK_CHANGE_RESEND_THRESHOLD; z++) {
+                    instance.setBlock(x, y, z, Block.STONE);
+                    count++;
+                }
+            }
+        }
+        env.tick();
+        // The chunk is sent again instead
+        singleTracker.assertEmpty();
+        multiTracker.assertEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@EnvTest
+public class ChunkDataEncodingIntegrationTest {
+
+    @Test
+    public void modifiedSections(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        assertEncoding(chunk);
+
+        instance.setBlock(1, 50, 1, Block.STONE);
+        assertEncoding(chunk);
+
+        instance.setBlock(1, 50, 1, Block.AIR);
+        instance.setBlock(2, -20, 3, Block.DIRT);
+        assertEncoding(chunk);
+    }
+
+    @Test
+    public void invalidate(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        var previous = encodedData(chunk);
+
+        // Direct palette modifications are only visible after invalidation
+        synchronized (chunk) {
+            chunk.getSectionAt(70).blockPalette().set(0, 70 & 0xF, 0, Block.STONE.stateId());
+        }
+        chunk.invalidate();
+        assertFalse(Arrays.equals(previous, encodedData(chunk)));
+        assertEncoding(chunk);
+    }
+
+    private static void assertEncoding(Chunk chunk) {
+        final byte[] expected;
+        synchronized (chunk) {
+            expected = NetworkBuffer.makeArray(buffer -> {
+                for (Section section : chunk.getSections()) buffer.write(section);
+            });
+        }
+        assertArrayEquals(expected, encodedData(chunk));
+    }
+
+    private static byte[] encodedData(Chunk chunk) {
+        var packet = (ChunkDataPacket) chunk.getFullDataPacket().packet(ConnectionState.PLAY);
+        return packet.chunkData().data();
+    }
+}
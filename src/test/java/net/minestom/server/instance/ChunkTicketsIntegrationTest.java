@@ -0,0 +1,95 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkTicketsIntegrationTest {
+
+    @Test
+    public void unloadWithoutTicket(Env env) {
+        var loader = new SavingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        var tickets = instance.getChunkTickets();
+        tickets.setUnloadDelay(0);
+
+        instance.loadChunk(0, 0).join();
+        tickets.addTicket(1, 0, this).join();
+        tickets.setForced(2, 0, true);
+        tickets.addTimedTicket(3, 0, 1000).join();
+        for (int i = 0; i < 40; i++) env.tick();
+
+        assertNull(instance.getChunk(0, 0));
+        assertTrue(loader.saved.contains(ChunkUtils.getChunkIndex(0, 0)));
+        assertNotNull(instance.getChunk(1, 0));
+        assertNotNull(instance.getChunk(2, 0));
+        assertNotNull(instance.getChunk(3, 0));
+
+        assertTrue(tickets.removeTicket(1, 0, this));
+        assertFalse(tickets.removeTicket(1, 0, this));
+        tickets.setForced(2, 0, false);
+        for (int i = 0; i < 40; i++) env.tick();
+        assertNull(instance.getChunk(1, 0));
+        assertNull(instance.getChunk(2, 0));
+        assertNotNull(instance.getChunk(3, 0));
+    }
+
+    @Test
+    public void gracePeriod(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(new SavingLoader());
+        var tickets = instance.getChunkTickets();
+        tickets.setUnloadDelay(100);
+        instance.loadChunk(0, 0).join();
+        for (int i = 0; i < 60; i++) env.tick();
+        assertNotNull(instance.getChunk(0, 0));
+        for (int i = 0; i < 100; i++) env.tick();
+        assertNull(instance.getChunk(0, 0));
+    }
+
+    @Test
+    public void playerView(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(new SavingLoader());
+        instance.getChunkTickets().setUnloadDelay(0);
+        var player = env.createPlayer(instance, new Pos(0, 42, 0));
+        instance.loadChunk(100, 100).join();
+        for (int i = 0; i < 40; i++) env.tick();
+        assertNotNull(instance.getChunk(0, 0));
+        assertNull(instance.getChunk(100, 100));
+        assertSame(instance, player.getInstance());
+    }
+
+    @Test
+    public void disabled(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(new SavingLoader());
+        assertTrue(instance.getChunkTickets().getUnloadDelay() < 0);
+        instance.loadChunk(0, 0).join();
+        for (int i = 0; i < 40; i++) env.tick();
+        assertNotNull(instance.getChunk(0, 0));
+    }
+
+    private static final class SavingLoader implements IChunkLoader {
+        final Set<Long> saved = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            this.saved.add(ChunkUtils.getChunkIndex(chunk));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class HeightmapIntegrationTest {
+
+    @Test
+    public void generated(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        for (Heightmap heightmap : Heightmap.values()) {
+            assertEquals(40, instance.getHeight(heightmap, 0, 0), heightmap.name());
+            assertEquals(40, instance.getHeight(heightmap, 15, 15), heightmap.name());
+        }
+        var emptyInstance = env.process().instance().createInstanceContainer();
+        emptyInstance.loadChunk(0, 0).join();
+        final int minY = emptyInstance.getDimensionType().getMinY();
+        assertEquals(minY, emptyInstance.getHeight(Heightmap.WORLD_SURFACE, 0, 0));
+    }
+
+    @Test
+    public void incremental(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        assertEquals(40, instance.getHeight(Heightmap.WORLD_SURFACE, 3, 5));
+
+        instance.setBlock(3, 50, 5, Block.STONE);
+        assertHeights(instance, 51, 51, 51);
+        instance.setBlock(3, 55, 5, Block.WATER);
+        assertHeights(instance, 56, 56, 51);
+        instance.setBlock(3, 60, 5, Block.TORCH);
+        assertHeights(instance, 56, 61, 51);
+
+        instance.setBlock(3, 60, 5, Block.AIR);
+        assertHeights(instance, 56, 56, 51);
+        instance.setBlock(3, 55, 5, Block.AIR);
+        assertHeights(instance, 51, 51, 51);
+        instance.setBlock(3, 50, 5, Block.AIR);
+        assertHeights(instance, 40, 40, 40);
+        instance.setBlock(3, 39, 5, Block.AIR);
+        assertHeights(instance, 39, 39, 39);
+
+        // Other columns are not affected
+        assertEquals(40, instance.getHeight(Heightmap.WORLD_SURFACE, 4, 5));
+    }
+
+    @Test
+    public void invalidate(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        assertEquals(40, chunk.getHeight(Heightmap.WORLD_SURFACE, 0, 0));
+
+        synchronized (chunk) {
+            chunk.getSectionAt(70).blockPalette().set(0, 70 & 0xF, 0, Block.STONE.stateId());
+        }
+        chunk.invalidate();
+        assertEquals(71, chunk.getHeight(Heightmap.WORLD_SURFACE, 0, 0));
+    }
+
+    @Test
+    public void skyLight(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        var chunk = (LightingChunk) instance.loadChunk(0, 0).join();
+        assertEquals(40, chunk.getHeightmap()[0]);
+
+        instance.setBlock(0, 50, 0, Block.STONE);
+        assertEquals(51, chunk.getHeightmap()[0]);
+        instance.setBlock(0, 50, 0, Block.AIR);
+        assertEquals(40, chunk.getHeightmap()[0]);
+    }
+
+    private static void assertHeights(Instance instance, int motionBlocking, int worldSurface, int oceanFloor) {
+        assertEquals(motionBlocking, instance.getHeight(Heightmap.MOTION_BLOCKING, 3, 5), "MOTION_BLOCKING");
+        assertEquals(worldSurface, instance.getHeight(Heightmap.WORLD_SURFACE, 3, 5), "WORLD_SURFACE");
+        assertEquals(oceanFloor, instance.getHeight(Heightmap.OCEAN_FLOOR, 3, 5), "OCEAN_FLOOR");
+    }
+}
@@ -0,0 +1,122 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceBlockConcurrencyIntegrationTest {
+
+    @Test
+    public void recursiveDestroy(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        AtomicInteger destroyCount = new AtomicInteger();
+        var handler = new BlockHandler() {
+            @Override
+            public void onDestroy(@NotNull Destroy destroy) {
+                destroyCount.incrementAndGet();
+                // Destroys itself again, and the next block of the frame
+                var position = destroy.getBlockPosition();
+                destroy.getInstance().setBlock(position, Block.AIR);
+                destroy.getInstance().setBlock(position.add(1, 0, 0), Block.AIR);
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:recursive");
+            }
+        };
+        for (int x = 0; x < 4; x++) instance.setBlock(x, 50, 0, Block.NETHER_PORTAL.withHandler(handler));
+        instance.setBlock(0, 50, 0, Block.AIR);
+        assertEquals(4, destroyCount.get());
+        for (int x = 0; x < 4; x++) assertEquals(Block.AIR, instance.getBlock(x, 50, 0));
+
+        // Setting the same block again in a later change is not skipped
+        instance.setBlock(0, 50, 0, Block.STONE);
+        instance.setBlock(0, 50, 0, Block.AIR);
+        instance.setBlock(0, 50, 0, Block.STONE);
+        assertEquals(Block.STONE, instance.getBlock(0, 50, 0));
+    }
+
+    @Test
+    public void concurrentChunks(Env env) {
+        var instance = env.createFlatInstance();
+        final int threads = 4;
+        for (int i = 0; i < threads; i++) instance.loadChunk(i * 4, 0).join();
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int baseX = i * 64;
+            futures.add(CompletableFuture.runAsync(() -> {
+                await(start);
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) instance.setBlock(baseX + x, 50, z, Block.STONE);
+                }
+            }));
+        }
+        start.countDown();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join());
+        for (int i = 0; i < threads; i++) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) assertEquals(Block.STONE, instance.getBlock(i * 64 + x, 50, z));
+            }
+        }
+    }
+
+    @Test
+    public void crossChunkHandlers(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        // Placing a block in a chunk sets a block in the other one
+        var handler = new BlockHandler() {
+            @Override
+            public void onPlace(@NotNull Placement placement) {
+                var position = placement.getBlockPosition();
+                final int otherX = position.blockX() < 16 ? position.blockX() + 16 : position.blockX() - 16;
+                placement.getInstance().setBlock(otherX, position.blockY() + 1, position.blockZ(), Block.STONE);
+            }
+
+            @Override
+            public @NotNull NamespaceID getNamespaceId() {
+                return NamespaceID.from("minestom:cross_chunk");
+            }
+        };
+        var block = Block.CHEST.withHandler(handler);
+        CountDownLatch start = new CountDownLatch(1);
+        var first = CompletableFuture.runAsync(() -> {
+            await(start);
+            for (int z = 0; z < 16; z++) instance.setBlock(0, 50 + (z % 8) * 2, z, block);
+        });
+        var second = CompletableFuture.runAsync(() -> {
+            await(start);
+            for (int z = 0; z < 16; z++) instance.setBlock(16, 50 + (z % 8) * 2, z, block);
+        });
+        start.countDown();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> CompletableFuture.allOf(first, second).join());
+        assertEquals(Block.STONE, instance.getBlock(16, 51, 0));
+        assertEquals(Block.STONE, instance.getBlock(0, 51, 0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -34,9 +34,10 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(Block.AIR, instance.getBlock(blockPoint));
 
-        var tracker = connection.trackIncoming();
+        var tracker = connection.trackIncoming(BlockChangePacket.class);
         instance.setBlock(blockPoint, Block.STONE);
-        tracker.assertSingle(BlockChangePacket.class, packet -> {
+        env.tick(); // Block changes are sent at the end of the tick
+        tracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(Block.STONE.stateId(), packet.blockStateId());
         });
@@ -84,6 +85,7 @@ public class InstanceBlockPacketIntegrationTest {
         var blockChangeTracker = connection.trackIncoming(BlockChangePacket.class);
         var blockEntityTracker = connection.trackIncoming(BlockEntityDataPacket.class);
         instance.setBlock(blockPoint, block);
+        env.tick();
         blockChangeTracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(block.stateId(), packet.blockStateId());
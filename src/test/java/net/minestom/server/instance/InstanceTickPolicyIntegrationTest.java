@@ -0,0 +1,67 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceTickPolicyIntegrationTest {
+
+    @Test
+    public void suspended(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        var counter = new AtomicInteger();
+        instance.scheduler().scheduleNextTick(counter::incrementAndGet);
+        instance.setTickPolicy(InstanceTickPolicy.suspended());
+
+        final long worldAge = instance.getWorldAge();
+        final long entityTicks = entity.getAliveTicks();
+        for (int i = 0; i < 10; i++) env.tick();
+        assertEquals(worldAge, instance.getWorldAge());
+        assertEquals(entityTicks, entity.getAliveTicks());
+        assertEquals(0, counter.get());
+
+        instance.setTickPolicy(InstanceTickPolicy.normal());
+        env.tick();
+        assertEquals(worldAge + 1, instance.getWorldAge());
+        assertEquals(entityTicks + 1, entity.getAliveTicks());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void rate(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setTickPolicy(InstanceTickPolicy.rate(10));
+        long worldAge = instance.getWorldAge();
+        for (int i = 0; i < 10; i++) env.tick();
+        assertEquals(worldAge + 5, instance.getWorldAge());
+
+        instance.setTickPolicy(InstanceTickPolicy.rate(40));
+        worldAge = instance.getWorldAge();
+        for (int i = 0; i < 10; i++) env.tick();
+        assertEquals(worldAge + 20, instance.getWorldAge());
+    }
+
+    @Test
+    public void dormant(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setTickPolicy(InstanceTickPolicy.dormant(InstanceTickPolicy.normal(), InstanceTickPolicy.rate(1)));
+        long worldAge = instance.getWorldAge();
+        for (int i = 0; i < 20; i++) env.tick();
+        assertEquals(worldAge + 1, instance.getWorldAge());
+
+        env.createPlayer(instance, new Pos(0, 42, 0));
+        worldAge = instance.getWorldAge();
+        for (int i = 0; i < 20; i++) env.tick();
+        assertEquals(worldAge + 20, instance.getWorldAge());
+    }
+}
@@ -0,0 +1,87 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LightingChunkConcurrencyIntegrationTest {
+
+    @Test
+    public void deferredInvalidation(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        var chunk = instance.loadChunk(0, 0).join();
+        LightingChunk.relight(instance, instance.getChunks());
+        var section = chunk.getSectionAt(70);
+        assertFalse(section.blockLight().requiresUpdate());
+
+        // Simulate a relight running on another thread
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        Thread relightThread = new Thread(() -> {
+            LightingChunk.lockLight(instance);
+            locked.countDown();
+            try {
+                changed.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                LightingChunk.unlockLight(instance);
+            }
+        });
+        relightThread.start();
+        locked.await();
+
+        instance.setBlock(5, 70, 5, Block.GLOWSTONE);
+        // The relight would mark the section valid, the invalidation must come after it
+        assertFalse(section.blockLight().requiresUpdate());
+        changed.countDown();
+        relightThread.join();
+        assertTrue(section.blockLight().requiresUpdate());
+    }
+
+    @Test
+    public void concurrentRelight(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        LightingChunk.relight(instance, instance.getChunks());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                final int chunkX = i % 2 == 0 ? -1 : 1;
+                final int chunkZ = i < 2 ? -1 : 1;
+                threads.add(new Thread(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        final Block block = j % 2 == 0 ? Block.GLOWSTONE : Block.AIR;
+                        instance.setBlock(chunkX * 16 + 8, 45 + j % 20, chunkZ * 16 + 8, block);
+                    }
+                }));
+            }
+            Thread relightThread = new Thread(() -> {
+                for (int j = 0; j < 20; j++) LightingChunk.relight(instance, instance.getChunks());
+            });
+            threads.forEach(Thread::start);
+            relightThread.start();
+            for (Thread thread : threads) thread.join();
+            relightThread.join();
+        });
+        final LightingChunk.InstanceLight light = LightingChunk.light(instance);
+        assertTrue(light.invalidations.isEmpty());
+        assertFalse(light.lock.isLocked());
+    }
+}
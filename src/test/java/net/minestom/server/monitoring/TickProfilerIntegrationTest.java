@@ -0,0 +1,61 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class TickProfilerIntegrationTest {
+
+    @Test
+    public void phases(Env env) {
+        var profiler = env.process().profiler();
+        env.tick();
+        var profile = profiler.lastProfile();
+        assertNotNull(profile);
+        assertEquals(TickProfiler.Phase.values().length, profile.phases().size());
+        long phases = 0;
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            assertTrue(profile.phase(phase) >= 0);
+            phases += profile.phase(phase);
+        }
+        assertTrue(phases <= profile.duration());
+        assertEquals(env.process().dispatcher().threads().size(), profile.threads().size());
+        assertTrue(profiler.tickSummary().count() > 0);
+    }
+
+    @Test
+    public void slowestElements(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        boolean sampled = false;
+        for (int i = 0; i < 40 && !sampled; i++) {
+            env.tick();
+            var profile = env.process().profiler().lastProfile();
+            assertNotNull(profile);
+            sampled = profile.threads().stream()
+                    .flatMap(thread -> thread.slowestElements().stream())
+                    .anyMatch(timing -> timing.element() == entity);
+        }
+        assertTrue(sampled, "Entity has not been sampled");
+    }
+
+    @Test
+    public void histogram() {
+        var histogram = new RollingHistogram(100);
+        assertEquals(new RollingHistogram.Summary(0, 0, 0, 0), histogram.summary());
+        for (int i = 1; i <= 200; i++) histogram.record(i);
+        // Only the last 100 samples are kept
+        var summary = histogram.summary();
+        assertEquals(100, summary.count());
+        assertEquals(150, summary.p50());
+        assertEquals(199, summary.p99());
+        assertEquals(200, summary.max());
+    }
+}
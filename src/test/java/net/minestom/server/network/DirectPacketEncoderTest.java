@@ -0,0 +1,67 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Metadata;
+import net.minestom.server.network.packet.server.DirectPacketEncoder;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.PacketUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DirectPacketEncoderTest {
+
+    @Test
+    public void compressedFormat() {
+        assertEncoding();
+    }
+
+    @Test
+    public void uncompressedFormat() {
+        final int threshold = MinecraftServer.getCompressionThreshold();
+        MinecraftServer.setCompressionThreshold(0);
+        try {
+            assertEncoding();
+        } finally {
+            MinecraftServer.setCompressionThreshold(threshold);
+        }
+    }
+
+    private static void assertEncoding() {
+        final Pos position = new Pos(5.5, 64, -12.25, 91.5f, -20f);
+        final Pos lastPosition = new Pos(5, 63.5, -12, 45f, 10f);
+        assertSame(EntityPositionAndRotationPacket.getPacket(5, position, lastPosition, true),
+                buffer -> DirectPacketEncoder.writeEntityPositionAndRotation(buffer, 5,
+                        DirectPacketEncoder.delta(position.x(), lastPosition.x()),
+                        DirectPacketEncoder.delta(position.y(), lastPosition.y()),
+                        DirectPacketEncoder.delta(position.z(), lastPosition.z()),
+                        position.yaw(), position.pitch(), true));
+        assertSame(new EntityPositionPacket(300, (short) 12, (short) -5, (short) 4000, false),
+                buffer -> DirectPacketEncoder.writeEntityPosition(buffer, 300, (short) 12, (short) -5, (short) 4000, false));
+        assertSame(new EntityRotationPacket(7, -170f, 33f, true),
+                buffer -> DirectPacketEncoder.writeEntityRotation(buffer, 7, -170f, 33f, true));
+        assertSame(new EntityHeadLookPacket(70000, 359f),
+                buffer -> DirectPacketEncoder.writeEntityHeadLook(buffer, 70000, 359f));
+        assertSame(new EntityTeleportPacket(1, position, true),
+                buffer -> DirectPacketEncoder.writeEntityTeleport(buffer, 1, position.x(), position.y(), position.z(),
+                        position.yaw(), position.pitch(), true));
+        assertSame(new EntityVelocityPacket(2, (short) 100, (short) -8000, (short) 0),
+                buffer -> DirectPacketEncoder.writeEntityVelocity(buffer, 2, (short) 100, (short) -8000, (short) 0));
+        assertSame(new EntityMetaDataPacket(3, Map.of(8, Metadata.VarInt(42))),
+                buffer -> DirectPacketEncoder.writeEntityMetadata(buffer, 3, 8, Metadata.VarInt(42)));
+    }
+
+    private static void assertSame(ServerPacket packet, Consumer<ByteBuffer> encoder) {
+        final ByteBuffer expected = PacketUtils.createFramedPacket(ConnectionState.PLAY, ByteBuffer.allocate(256), packet);
+        final ByteBuffer actual = ByteBuffer.allocate(256);
+        actual.position(10); // Must write at the buffer position
+        encoder.accept(actual);
+        assertEquals(expected, actual.flip().position(10), packet.getClass().getSimpleName());
+    }
+}
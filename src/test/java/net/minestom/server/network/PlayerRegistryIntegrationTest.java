@@ -0,0 +1,93 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerRegistryIntegrationTest {
+
+    @Test
+    public void lookup(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 42, 0));
+
+        assertSame(player, manager.getOnlinePlayerByUsername(player.getUsername()));
+        assertSame(player, manager.getOnlinePlayerByUsername(player.getUsername().toUpperCase(Locale.ROOT)));
+        assertSame(player, manager.getOnlinePlayerByUuid(player.getUuid()));
+        assertSame(player, manager.getOnlinePlayerByEntityId(player.getEntityId()));
+        assertTrue(manager.getOnlinePlayers().contains(player));
+
+        player.getPlayerConnection().disconnect();
+        assertNull(manager.getOnlinePlayerByUuid(player.getUuid()));
+        assertNull(manager.getOnlinePlayerByEntityId(player.getEntityId()));
+        assertFalse(manager.getOnlinePlayers().contains(player));
+    }
+
+    @Test
+    public void snapshot(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 42, 0));
+        var online = manager.getOnlinePlayers();
+        assertEquals(List.of(player), List.copyOf(online));
+
+        // Iteration is not affected by concurrent modifications
+        var iterator = online.iterator();
+        var player2 = env.createPlayer(instance, new Pos(0, 42, 0));
+        assertSame(player, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(2, online.size());
+        assertTrue(online.contains(player2));
+
+        // Size and emptiness agree
+        player.getPlayerConnection().disconnect();
+        player2.getPlayerConnection().disconnect();
+        assertEquals(0, online.size());
+        assertTrue(online.isEmpty());
+    }
+
+    @Test
+    public void duplicates(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 42, 0));
+        var player2 = env.createPlayer(instance, new Pos(0, 42, 0));
+        player2.setUsernameField(player.getUsername());
+        player2.setUuid(player.getUuid());
+        assertSame(player, manager.getOnlinePlayerByUuid(player.getUuid()));
+        assertSame(player, manager.getOnlinePlayerByUsername(player.getUsername()));
+
+        // The remaining player is indexed once the first one leaves
+        player.getPlayerConnection().disconnect();
+        assertSame(player2, manager.getOnlinePlayerByUuid(player2.getUuid()));
+        assertSame(player2, manager.getOnlinePlayerByUsername(player2.getUsername()));
+        assertSame(player2, manager.getOnlinePlayerByEntityId(player2.getEntityId()));
+    }
+
+    @Test
+    public void rename(Env env) {
+        var manager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 42, 0));
+        final String previousUsername = player.getUsername();
+        final UUID previousUuid = player.getUuid();
+
+        player.setUsernameField("Renamed");
+        assertSame(player, manager.getOnlinePlayerByUsername("renamed"));
+        assertNull(manager.getOnlinePlayerByUsername(previousUsername));
+
+        final UUID uuid = UUID.randomUUID();
+        player.setUuid(uuid);
+        assertSame(player, manager.getOnlinePlayerByUuid(uuid));
+        assertNull(manager.getOnlinePlayerByUuid(previousUuid));
+    }
+}
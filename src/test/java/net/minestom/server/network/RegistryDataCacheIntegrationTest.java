@@ -0,0 +1,36 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.world.biomes.Biome;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class RegistryDataCacheIntegrationTest {
+
+    @Test
+    public void shared(Env env) {
+        var manager = env.process().connection();
+        var packet = manager.getRegistryDataPacket();
+        assertNotNull(packet.body(ConnectionState.CONFIGURATION));
+        assertSame(packet, manager.getRegistryDataPacket());
+    }
+
+    @Test
+    public void invalidation(Env env) {
+        var manager = env.process().connection();
+        var packet = manager.getRegistryDataPacket();
+
+        var biome = Biome.builder().name(NamespaceID.from("minestom:registry_cache")).build();
+        env.process().biome().addBiome(biome);
+        var updated = manager.getRegistryDataPacket();
+        assertNotSame(packet, updated);
+        assertSame(updated, manager.getRegistryDataPacket());
+
+        env.process().biome().removeBiome(biome);
+        assertNotSame(updated, manager.getRegistryDataPacket());
+    }
+}
@@ -1,5 +1,7 @@
 package net.minestom.server.network;
 
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.compression.PacketCompression;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
@@ -93,6 +95,21 @@ public class SocketWriteTest {
         assertEquals(3 + 3 + 1 + 4, buffer.position(), "Invalid buffer position");
     }
 
+    @Test
+    public void writeSplitCompressed() {
+        var packet = new CompressiblePacket("Hello world!".repeat(200));
+
+        var framed = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(ConnectionState.PLAY, framed, packet, true);
+
+        // Content written first, then compressed separately (e.g. from another thread)
+        var split = ObjectPool.PACKET_POOL.get();
+        final int packetSize = PacketUtils.writePacketContent(ConnectionState.PLAY, split, packet);
+        PacketUtils.writeCompressedFrame(split, 0, packetSize, MinecraftServer.getCompressionThreshold(), PacketCompression.level(packet));
+
+        assertEquals(framed.flip(), split.flip(), "Split compression must produce the same frame");
+    }
+
     @Test
     public void writeMultiCompressedSmall() {
         var packet = new IntPacket(5);
@@ -0,0 +1,139 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.compression.PacketCompression;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.socket.LoopbackSocket;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static net.minestom.server.network.NetworkBuffer.BYTE_ARRAY;
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerSocketCompressionIntegrationTest {
+
+    record IntPacket(int value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(INT, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 1;
+        }
+    }
+
+    record BytesPacket(byte[] value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(BYTE_ARRAY, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 2;
+        }
+    }
+
+    @Test
+    public void offloadOrder(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(worker);
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            expected.writeBytes(startCompression(connection));
+
+            // Large packets are compressed by the helper pool, the packets sent after them must wait
+            final Random random = new Random(0);
+            for (int i = 0; i < 6; i++) {
+                final ServerPacket packet;
+                if (i % 2 == 0) {
+                    packet = new IntPacket(i);
+                } else {
+                    byte[] bytes = new byte[100_000];
+                    random.nextBytes(bytes);
+                    packet = new BytesPacket(bytes);
+                    assertTrue(PacketCompression.shouldOffload(bytes.length));
+                }
+                connection.sendPacket(packet);
+                expected.writeBytes(compressedFrame(packet));
+            }
+
+            assertArrayEquals(expected.toByteArray(), socket.receive(connection, expected.size()));
+            assertEquals(0, socket.available());
+        }
+    }
+
+    @Test
+    public void failedCompression(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+        env.process().exception().setExceptionHandler(exceptions::add);
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(worker);
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            expected.writeBytes(startCompression(connection));
+
+            final ServerPacket before = new IntPacket(1);
+            final ServerPacket after = new IntPacket(2);
+            // Incompressible, does not fit in the packet buffer once deflated
+            byte[] bytes = new byte[ServerFlag.MAX_PACKET_SIZE - 64];
+            new Random(0).nextBytes(bytes);
+            connection.sendPacket(before);
+            connection.sendPacket(new BytesPacket(bytes));
+            connection.sendPacket(after);
+            expected.writeBytes(compressedFrame(before));
+            expected.writeBytes(compressedFrame(after));
+
+            // The failed packet is dropped without blocking the following ones
+            assertArrayEquals(expected.toByteArray(), socket.receive(connection, expected.size()));
+            assertEquals(0, socket.available());
+            assertEquals(1, exceptions.size());
+            assertInstanceOf(IllegalArgumentException.class, exceptions.get(0));
+        }
+    }
+
+    private static byte[] startCompression(PlayerSocketConnection connection) {
+        connection.setConnectionState(ConnectionState.LOGIN);
+        connection.startCompression();
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            final ByteBuffer framed = PacketUtils.createFramedPacket(ConnectionState.LOGIN, hold.get(),
+                    new SetCompressionPacket(MinecraftServer.getCompressionThreshold()), false);
+            return bytes(framed);
+        }
+    }
+
+    private static byte[] compressedFrame(ServerPacket packet) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            final ByteBuffer buffer = hold.get();
+            final int packetSize = PacketUtils.writePacketContent(ConnectionState.LOGIN, buffer, packet);
+            PacketUtils.writeCompressedFrame(buffer, 0, packetSize, MinecraftServer.getCompressionThreshold(),
+                    PacketCompression.level(packet));
+            return bytes(buffer.flip());
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
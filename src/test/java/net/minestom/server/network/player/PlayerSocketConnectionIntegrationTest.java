@@ -0,0 +1,178 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.Viewable;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.socket.LoopbackSocket;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.ViewablePacketAggregator;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.UUID;
+
+import static net.minestom.server.network.NetworkBuffer.BYTE_ARRAY;
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerSocketConnectionIntegrationTest {
+
+    record IntPacket(int value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(INT, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 1;
+        }
+    }
+
+    record BytesPacket(byte[] value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(BYTE_ARRAY, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 2;
+        }
+    }
+
+    static final class TestViewable implements Viewable {
+        private final Set<Player> viewers;
+
+        TestViewable(Player... viewers) {
+            this.viewers = Set.of(viewers);
+        }
+
+        @Override
+        public boolean addViewer(@NotNull Player player) {
+            return false;
+        }
+
+        @Override
+        public boolean removeViewer(@NotNull Player player) {
+            return false;
+        }
+
+        @Override
+        public @NotNull Set<@NotNull Player> getViewers() {
+            return viewers;
+        }
+    }
+
+    @Test
+    public void queuedBytes(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(worker);
+            connection.setOutboundLimits(0, 0);
+            final ServerPacket first = new IntPacket(1);
+            final ServerPacket second = new BytesPacket(new byte[100]);
+            connection.sendPacket(first);
+            connection.sendPacket(second);
+            assertEquals(0, connection.getQueuedBytes());
+
+            // Written but not flushed
+            worker.queue().drain(Runnable::run);
+            final byte[] expected = frames(first, second);
+            assertEquals(expected.length, connection.getQueuedBytes());
+
+            assertArrayEquals(expected, socket.receive(connection, expected.length));
+            assertEquals(0, connection.getQueuedBytes());
+        }
+    }
+
+    @Test
+    public void softLimitDropsFarEntities(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        final Instance instance = env.createFlatInstance();
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(worker);
+            final Player viewer = new Player(UUID.randomUUID(), "viewer", connection);
+            final Viewable viewable = new TestViewable(viewer);
+            final Entity near = new Entity(EntityType.ZOMBIE);
+            near.setInstance(instance, new Pos(3, 0, 0)).join();
+            final Entity far = new Entity(EntityType.ZOMBIE);
+            far.setInstance(instance, new Pos(100, 0, 0)).join();
+
+            // Any queued byte is above the soft limit
+            connection.setOutboundLimits(1, 0);
+            final ServerPacket queued = new IntPacket(0);
+            connection.sendPacket(queued);
+            worker.queue().drain(Runnable::run);
+            assertTrue(connection.isCongested());
+
+            final ServerPacket nearMovement = new IntPacket(1);
+            final ServerPacket farMovement = new IntPacket(2);
+            ViewablePacketAggregator.appendLowPriority(viewable, ByteBuffer.wrap(frame(farMovement)), far);
+            ViewablePacketAggregator.appendLowPriority(viewable, ByteBuffer.wrap(frame(nearMovement)), near);
+            ViewablePacketAggregator.flush();
+
+            final byte[] expected = frames(queued, nearMovement);
+            assertArrayEquals(expected, socket.receive(connection, expected.length));
+            assertEquals(0, socket.available());
+            assertEquals(1, connection.getDroppedPackets());
+            assertFalse(connection.isCongested());
+
+            // Sent again once the queue is drained
+            ViewablePacketAggregator.appendLowPriority(viewable, ByteBuffer.wrap(frame(farMovement)), far);
+            ViewablePacketAggregator.flush();
+            final byte[] expectedFar = frame(farMovement);
+            assertArrayEquals(expectedFar, socket.receive(connection, expectedFar.length));
+            assertEquals(1, connection.getDroppedPackets());
+        }
+    }
+
+    @Test
+    public void hardLimitKicks(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(worker);
+            // Kicked through the player
+            new Player(UUID.randomUUID(), "player", connection);
+            connection.setOutboundLimits(0, 64);
+
+            connection.sendPacket(new BytesPacket(new byte[32]));
+            worker.queue().drain(Runnable::run, 1);
+            assertTrue(connection.isOnline());
+
+            connection.sendPacket(new BytesPacket(new byte[64]));
+            // Only the write, the disconnection must run on the worker thread
+            worker.queue().drain(Runnable::run, 1);
+            assertFalse(connection.isOnline());
+        }
+    }
+
+    private static byte[] frames(ServerPacket... packets) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (ServerPacket packet : packets) output.writeBytes(frame(packet));
+        return output.toByteArray();
+    }
+
+    private static byte[] frame(ServerPacket packet) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            final ByteBuffer framed = PacketUtils.createFramedPacket(ConnectionState.PLAY, hold.get(), packet);
+            byte[] bytes = new byte[framed.remaining()];
+            framed.get(bytes);
+            return bytes;
+        }
+    }
+}
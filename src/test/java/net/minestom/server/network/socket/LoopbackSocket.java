@@ -0,0 +1,122 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Socket connected to a local client, to test what a connection sends.
+ */
+public final class LoopbackSocket implements AutoCloseable {
+    private static final long TIMEOUT_NANOS = 5_000_000_000L;
+
+    private final ServerSocketChannel server;
+    private final SocketChannel channel;
+    private final SocketChannel client;
+
+    private LoopbackSocket(ServerSocketChannel server, SocketChannel channel, SocketChannel client) {
+        this.server = server;
+        this.channel = channel;
+        this.client = client;
+    }
+
+    public static @NotNull LoopbackSocket open() throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        SocketChannel client = SocketChannel.open(server.getLocalAddress());
+        SocketChannel channel = server.accept();
+        channel.configureBlocking(false);
+        client.configureBlocking(false);
+        return new LoopbackSocket(server, channel, client);
+    }
+
+    /**
+     * Creates a connection on the server side of the socket, handled by a worker which is not started.
+     * <p>
+     * Its writes are processed by {@link #receive(PlayerSocketConnection, int)}.
+     */
+    public @NotNull PlayerSocketConnection connection(@NotNull Worker worker) throws IOException {
+        return new PlayerSocketConnection(worker, channel, channel.getRemoteAddress());
+    }
+
+    public @NotNull SocketChannel channel() {
+        return channel;
+    }
+
+    public @NotNull SocketChannel client() {
+        return client;
+    }
+
+    /**
+     * Runs the writes queued to the worker of a connection and flushes it, until the client received {@code length} bytes.
+     *
+     * @param connection the connection of this socket
+     * @param length     the number of bytes to receive
+     * @return the received bytes
+     */
+    public @NotNull byte[] receive(@NotNull PlayerSocketConnection connection, int length) throws IOException {
+        return receive(length, () -> {
+            // Also runs the tasks offered later, e.g. by the compression helpers
+            connection.worker().queue().drain(Runnable::run);
+            connection.flushSync();
+        });
+    }
+
+    /**
+     * Reads {@code length} bytes, sent by the running workers of a server which are woken up until then.
+     *
+     * @param server the server whose workers handle the connection
+     * @param length the number of bytes to receive
+     * @return the received bytes
+     */
+    public @NotNull byte[] receive(@NotNull Server server, int length) throws IOException {
+        return receive(length, server::tick);
+    }
+
+    /**
+     * Checks that nothing else has been received.
+     *
+     * @return the number of unexpected bytes
+     */
+    public int available() throws IOException {
+        return client.read(ByteBuffer.allocate(1024));
+    }
+
+    private byte[] receive(int length, Flush flush) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(length);
+        ByteBuffer buffer = ByteBuffer.allocate(65_536);
+        final long start = System.nanoTime();
+        while (output.size() < length) {
+            if (System.nanoTime() - start > TIMEOUT_NANOS) {
+                fail("Received " + output.size() + " bytes out of " + length);
+            }
+            flush.run();
+            buffer.clear().limit(Math.min(buffer.capacity(), length - output.size()));
+            final int read = client.read(buffer);
+            if (read < 0) fail("Connection closed after " + output.size() + " bytes");
+            if (read == 0) Thread.onSpinWait();
+            output.write(buffer.array(), 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        client.close();
+        channel.close();
+        server.close();
+    }
+
+    private interface Flush {
+        void run() throws IOException;
+    }
+}
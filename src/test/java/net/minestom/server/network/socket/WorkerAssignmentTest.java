@@ -0,0 +1,89 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.PacketProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class WorkerAssignmentTest {
+
+    @Test
+    public void roundRobin() throws IOException {
+        var server = new Server(new PacketProcessor(new PacketListenerManager()), 3);
+        final List<Worker> workers = server.workers();
+        final WorkerAssignment assignment = WorkerAssignment.roundRobin();
+        try (SocketChannel channel = SocketChannel.open()) {
+            for (int i = 0; i < 7; i++) {
+                assertSame(workers.get(i % 3), assignment.assign(workers, channel));
+            }
+        }
+    }
+
+    @Test
+    public void leastConnections() throws IOException {
+        var server = new Server(new PacketProcessor(new PacketListenerManager()), 3);
+        final List<Worker> workers = server.workers();
+        final WorkerAssignment assignment = WorkerAssignment.leastConnections();
+        List<LoopbackSocket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) sockets.add(LoopbackSocket.open());
+            workers.get(0).receiveConnection(sockets.get(0).channel());
+            workers.get(0).receiveConnection(sockets.get(1).channel());
+            workers.get(2).receiveConnection(sockets.get(2).channel());
+            assertEquals(2, workers.get(0).connectionCount());
+
+            final SocketChannel channel = sockets.get(3).channel();
+            assertSame(workers.get(1), assignment.assign(workers, channel));
+            workers.get(1).receiveConnection(channel);
+            // Ties go to the first worker
+            assertSame(workers.get(1), assignment.assign(workers, channel));
+        } finally {
+            for (LoopbackSocket socket : sockets) socket.close();
+        }
+    }
+
+    @Test
+    public void shardedAccept() throws IOException, InterruptedException {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        var server = new Server(new PacketProcessor(new PacketListenerManager()), 2);
+        server.init(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 3);
+        // SO_REUSEPORT is not available everywhere
+        assumeTrue(server.acceptorCount() == 3);
+        server.start();
+        List<SocketChannel> clients = new ArrayList<>();
+        try {
+            // Connections are spread by the kernel, all acceptors must be running for them to be accepted
+            final int count = 64;
+            for (int i = 0; i < count; i++) {
+                clients.add(SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort())));
+            }
+            final long start = System.nanoTime();
+            while (connectionCount(server) < count) {
+                if (System.nanoTime() - start > 5_000_000_000L) {
+                    fail("Accepted " + connectionCount(server) + " connections out of " + count);
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            for (SocketChannel client : clients) client.close();
+            server.stop();
+        }
+    }
+
+    private static int connectionCount(Server server) {
+        int count = 0;
+        for (Worker worker : server.workers()) count += worker.connectionCount();
+        return count;
+    }
+}
@@ -0,0 +1,119 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.ThreadProvider;
+import net.minestom.server.thread.TickThread;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class WorkerMigrationIntegrationTest {
+
+    record IntPacket(int value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(INT, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 1;
+        }
+    }
+
+    @Test
+    public void tickThreadAffinity(Env env) throws Exception {
+        var server = new Server(new PacketProcessor(new PacketListenerManager()), 2);
+        server.workerAssignment(WorkerAssignment.tickThreadAffinity());
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+        server.start();
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final Worker first = server.workers().get(0);
+            final Worker second = server.workers().get(1);
+            final PlayerSocketConnection connection = socket.connection(first);
+            final Player player = new Player(UUID.randomUUID(), "player", connection);
+
+            reassignOn(dispatcher, 1, server, player);
+            await(server, () -> connection.worker() == second && second.connectionCount() == 1);
+            assertEquals(0, first.connectionCount());
+
+            // Follows the player when its partition is ticked by another thread
+            reassignOn(dispatcher, 0, server, player);
+            await(server, () -> connection.worker() == first && first.connectionCount() == 1);
+            assertEquals(0, second.connectionCount());
+
+            // Still usable after moving back and forth
+            final ServerPacket packet = new IntPacket(5);
+            connection.sendPacket(packet);
+            final byte[] expected = frame(packet);
+            assertArrayEquals(expected, socket.receive(server, expected.length));
+        } finally {
+            dispatcher.shutdown();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void writeOrderAcrossMigrations(Env env) throws Exception {
+        var server = new Server(new PacketProcessor(new PacketListenerManager()), 2);
+        server.start();
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(server.workers().get(0));
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            for (int i = 0; i < 2_000; i++) {
+                if (i % 100 == 0) connection.migrate(server.workers().get(i / 100 % 2 == 0 ? 1 : 0));
+                final ServerPacket packet = new IntPacket(i);
+                connection.sendPacket(packet);
+                expected.writeBytes(frame(packet));
+            }
+            assertArrayEquals(expected.toByteArray(), socket.receive(server, expected.size()));
+            assertEquals(0, socket.available());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static void reassignOn(ThreadDispatcher<Object> dispatcher, int thread, Server server, Player player) {
+        dispatcher.runAndAwait(index -> {
+            if (index == thread) server.reassignWorker(player, TickThread.current());
+        });
+    }
+
+    private static void await(Server server, BooleanSupplier condition) throws InterruptedException {
+        final long start = System.nanoTime();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - start > 5_000_000_000L) fail("Condition not met in time");
+            // Workers only run their queue when woken up
+            server.tick();
+            Thread.sleep(1);
+        }
+    }
+
+    private static byte[] frame(ServerPacket packet) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            final ByteBuffer framed = PacketUtils.createFramedPacket(ConnectionState.PLAY, hold.get(), packet);
+            byte[] bytes = new byte[framed.remaining()];
+            framed.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -4,10 +4,12 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class AcquirableTest {
 
@@ -41,4 +43,94 @@ public class AcquirableTest {
 
         assertNotEquals(firstThread, secondThread);
     }
+
+    @Test
+    public void crossAcquisition() {
+        // Entities on different threads acquiring each other every tick must not deadlock
+        AtomicReference<Entity> firstEntity = new AtomicReference<>();
+        AtomicReference<Entity> secondEntity = new AtomicReference<>();
+        AtomicInteger counter = new AtomicInteger();
+        class AcquiringEntity extends Entity {
+            private final AtomicReference<Entity> target;
+
+            AcquiringEntity(AtomicReference<Entity> target) {
+                super(EntityType.ZOMBIE);
+                this.target = target;
+            }
+
+            @Override
+            public void tick(long time) {
+                final Entity entity = target.get();
+                Acquirable.sync(List.of(getAcquirable(), entity.getAcquirable()), counter::incrementAndGet);
+                entity.getAcquirable().sync(e -> {
+                    // The own thread is locked again before the callback
+                    assertTrue(getAcquirable().assignedThread().lock().isHeldByCurrentThread());
+                    counter.incrementAndGet();
+                });
+                assertTrue(getAcquirable().assignedThread().lock().isHeldByCurrentThread());
+            }
+        }
+        firstEntity.set(new AcquiringEntity(secondEntity));
+        secondEntity.set(new AcquiringEntity(firstEntity));
+
+        Object first = new Object();
+        Object second = new Object();
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+        dispatcher.createPartition(first);
+        dispatcher.createPartition(second);
+        dispatcher.updateElement(firstEntity.get(), first);
+        dispatcher.updateElement(secondEntity.get(), second);
+
+        Acquirable.resetAcquiringHistogram();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 100; i++) dispatcher.updateAndAwait(System.currentTimeMillis());
+        });
+        assertEquals(400, counter.get());
+        assertTrue(Acquirable.resetAcquiringHistogram().count() > 0);
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void nestedAcquisition() {
+        Entity firstEntity = new Entity(EntityType.ZOMBIE);
+        Entity secondEntity = new Entity(EntityType.ZOMBIE);
+        Object first = new Object();
+        Object second = new Object();
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+        dispatcher.createPartition(first);
+        dispatcher.createPartition(second);
+        dispatcher.updateElement(firstEntity, first);
+        dispatcher.updateElement(secondEntity, second);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+
+        final TickThread firstThread = firstEntity.getAcquirable().assignedThread();
+        final TickThread secondThread = secondEntity.getAcquirable().assignedThread();
+        final Entity higher = firstThread.number() > secondThread.number() ? firstEntity : secondEntity;
+        final Entity lower = higher == firstEntity ? secondEntity : firstEntity;
+        // Out of order, in both directions
+        AtomicInteger counter = new AtomicInteger();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            higher.getAcquirable().sync(h -> lower.getAcquirable().sync(l -> counter.incrementAndGet()));
+            lower.getAcquirable().sync(l -> higher.getAcquirable().sync(h -> counter.incrementAndGet()));
+        });
+        assertEquals(2, counter.get());
+        assertFalse(firstThread.lock().isLocked());
+        assertFalse(secondThread.lock().isLocked());
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void unassignedSync() {
+        // Not in an instance, no thread assigned
+        Entity entity = new Entity(EntityType.ZOMBIE);
+        Entity otherEntity = new Entity(EntityType.ZOMBIE);
+        assertNull(entity.getAcquirable().assignedThread());
+
+        AtomicInteger counter = new AtomicInteger();
+        Acquirable.sync(List.of(entity.getAcquirable(), otherEntity.getAcquirable()), counter::incrementAndGet);
+        entity.getAcquirable().sync(e -> counter.incrementAndGet());
+        assertEquals(2, counter.get());
+    }
 }
@@ -0,0 +1,61 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class RegionThreadProviderIntegrationTest {
+
+    @Test
+    public void region(Env env) {
+        var instance = env.createFlatInstance();
+        var provider = new RegionThreadProvider(8, 0, 0);
+        var first = provider.findThread(instance.loadChunk(0, 0).join());
+        assertEquals(first, provider.findThread(instance.loadChunk(7, 7).join()));
+        assertNotEquals(first, provider.findThread(instance.loadChunk(8, 0).join()));
+        assertNotEquals(first, provider.findThread(instance.loadChunk(-1, 0).join()));
+        assertEquals(provider.region(0, 0), provider.region(7, 7));
+    }
+
+    @Test
+    public void merge(Env env) {
+        var instance = env.createFlatInstance();
+        var provider = new RegionThreadProvider(8, 16, 60_000);
+        var chunk = instance.loadChunk(7, 0).join();
+        var neighbour = instance.loadChunk(8, 0).join();
+        assertNotEquals(provider.findThread(chunk), provider.findThread(neighbour));
+
+        // Players close to each other across the region border
+        env.createPlayer(instance, new Pos(126, 42, 0));
+        env.createPlayer(instance, new Pos(130, 42, 0));
+        final int thread = provider.findThread(chunk);
+        assertEquals(thread, provider.findThread(neighbour));
+    }
+
+    @Test
+    public void mergeExpiration(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        var provider = new RegionThreadProvider(8, 16, 0);
+        var chunk = instance.loadChunk(7, 0).join();
+        var neighbour = instance.loadChunk(8, 0).join();
+        final int thread = provider.findThread(chunk);
+        final int neighbourThread = provider.findThread(neighbour);
+
+        env.createPlayer(instance, new Pos(126, 42, 0));
+        var player = env.createPlayer(instance, new Pos(130, 42, 0));
+        assertEquals(thread, provider.findThread(chunk));
+        assertEquals(thread, provider.findThread(neighbour));
+
+        // The merged region lost its own thread, it gets a new one once split
+        player.teleport(new Pos(200, 42, 0)).join();
+        Thread.sleep(5);
+        final int splitThread = provider.findThread(neighbour);
+        assertNotEquals(thread, splitThread);
+        assertNotEquals(neighbourThread, splitThread);
+        assertEquals(thread, provider.findThread(chunk));
+    }
+}
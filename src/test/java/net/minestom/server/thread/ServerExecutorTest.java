@@ -0,0 +1,88 @@
+package net.minestom.server.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerExecutorTest {
+
+    @Test
+    public void metrics() throws InterruptedException {
+        var executor = new ServerExecutor("test", 1, 16, ServerExecutor.RejectionPolicy.ABORT);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        executor.execute(() -> {
+            await(blocker);
+            done.countDown();
+        });
+        executor.execute(done::countDown);
+        executor.execute(done::countDown);
+        assertEquals(2, executor.queueDepth());
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, executor.queueLatency().count());
+        assertEquals(0, executor.rejectedTasks());
+        executor.shutdown();
+    }
+
+    @Test
+    public void abort() {
+        var executor = new ServerExecutor("test", 1, 1, ServerExecutor.RejectionPolicy.ABORT);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(() -> await(blocker));
+        // Wait for the first task to leave the queue
+        while (executor.queueDepth() != 0) Thread.onSpinWait();
+        executor.execute(() -> {
+        });
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        assertEquals(1, executor.rejectedTasks());
+        blocker.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void callerRuns() {
+        var executor = new ServerExecutor("test", 1, 1, ServerExecutor.RejectionPolicy.CALLER_RUNS);
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(() -> await(blocker));
+        while (executor.queueDepth() != 0) Thread.onSpinWait();
+        executor.execute(() -> {
+        });
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+        assertSame(Thread.currentThread(), thread.get());
+        assertEquals(1, executor.rejectedTasks());
+        blocker.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void registry() {
+        var previous = ServerExecutors.get(ServerExecutors.IO);
+        assertSame(previous, ServerExecutors.io());
+        assertThrows(IllegalArgumentException.class, () -> ServerExecutors.get("unknown"));
+
+        var executor = ServerExecutors.register("test-registry", 2, 8, ServerExecutor.RejectionPolicy.BLOCK);
+        assertSame(executor, ServerExecutors.get("test-registry"));
+        assertTrue(ServerExecutors.executors().contains(executor));
+        var replacement = ServerExecutors.register("test-registry", 1, 8, ServerExecutor.RejectionPolicy.BLOCK);
+        assertSame(replacement, ServerExecutors.get("test-registry"));
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        replacement.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
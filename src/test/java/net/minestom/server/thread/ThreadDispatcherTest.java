@@ -4,11 +4,13 @@ import net.minestom.server.Tickable;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -167,4 +169,47 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedUpdate() {
+        // Ensure that expensive partitions are spread across threads
+        // when RefreshType.BALANCED is used
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(new BalancedThreadProvider<>(ThreadProvider.counter(), 0, 1000, 1), 2);
+        final TickThread first = dispatcher.threads().get(0);
+        final TickThread second = dispatcher.threads().get(1);
+
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        List<Tickable> partitions = IntStream.range(0, 4)
+                .mapToObj(value -> (Tickable) new Tickable() {
+                    @Override
+                    public void tick(long time) {
+                        threads.put(this, Thread.currentThread());
+                        // Even partitions are dispatched to the first thread
+                        if (value % 2 == 0) LockSupport.parkNanos(2_000_000);
+                    }
+                }).toList();
+        partitions.forEach(dispatcher::createPartition);
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            dispatcher.refreshThreads();
+        }
+        assertTrue(first.load() > 0);
+        assertTrue(first.averageTickDuration() > 0);
+        assertNotEquals(threads.get(partitions.get(0)), threads.get(partitions.get(2)),
+                "Expensive partitions have not been balanced");
+        assertEquals(4, first.entries().size() + second.entries().size());
+
+        // Expensive partitions do not go back
+        final Thread thread0 = threads.get(partitions.get(0));
+        final Thread thread2 = threads.get(partitions.get(2));
+        for (int i = 0; i < 5; i++) {
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            dispatcher.refreshThreads();
+        }
+        assertEquals(thread0, threads.get(partitions.get(0)));
+        assertEquals(thread2, threads.get(partitions.get(2)));
+
+        dispatcher.shutdown();
+    }
 }
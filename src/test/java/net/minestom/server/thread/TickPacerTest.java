@@ -0,0 +1,66 @@
+package net.minestom.server.thread;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickPacerTest {
+    private static final long TICK = 50;
+
+    @Test
+    public void onTime() {
+        var pacer = new TickPacer(TICK, TickPacer.OverloadPolicy.CATCH_UP, 10, 0);
+        pacer.start(0);
+        assertEquals(50, pacer.next(20));
+        assertEquals(100, pacer.next(60));
+        assertEquals(0, pacer.debt());
+        assertEquals(0, pacer.skippedTicks());
+    }
+
+    @Test
+    public void catchUp() {
+        var pacer = new TickPacer(TICK, TickPacer.OverloadPolicy.CATCH_UP, 2, 0);
+        pacer.start(0);
+        // Tick ended 70ns after the next deadline, the following ticks run immediately
+        assertEquals(50, pacer.next(120));
+        assertEquals(70, pacer.debt());
+        assertEquals(100, pacer.next(130));
+        assertEquals(150, pacer.next(140));
+        assertEquals(0, pacer.debt());
+        // Late by 5 ticks, only 2 are caught up
+        assertEquals(350, pacer.next(440));
+        assertEquals(240, pacer.debt());
+        assertEquals(3, pacer.skippedTicks());
+        assertEquals(400, pacer.next(445));
+        assertEquals(450, pacer.next(446));
+    }
+
+    @Test
+    public void skip() {
+        var pacer = new TickPacer(TICK, TickPacer.OverloadPolicy.SKIP, 10, 0);
+        pacer.start(0);
+        assertEquals(150, pacer.next(120));
+        assertEquals(70, pacer.debt());
+        assertEquals(2, pacer.skippedTicks());
+        assertEquals(200, pacer.next(160));
+        assertEquals(0, pacer.debt());
+    }
+
+    @Test
+    public void stretch() {
+        var pacer = new TickPacer(TICK, TickPacer.OverloadPolicy.STRETCH, 10, 0);
+        pacer.start(0);
+        assertEquals(120, pacer.next(120));
+        assertEquals(70, pacer.debt());
+        assertEquals(170, pacer.next(130));
+        assertEquals(0, pacer.skippedTicks());
+    }
+
+    @Test
+    public void await() {
+        var pacer = new TickPacer(TICK, TickPacer.OverloadPolicy.CATCH_UP, 10, 100_000);
+        final long deadline = System.nanoTime() + 2_000_000;
+        pacer.await(deadline);
+        assertTrue(System.nanoTime() >= deadline);
+    }
+}
@@ -0,0 +1,67 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.server.ServerTickStallEvent;
+import net.minestom.server.monitoring.TickStallReport;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class TickWatchdogIntegrationTest {
+
+    @Test
+    public void stall(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void update(long time) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+
+        AtomicReference<TickStallReport> reportRef = new AtomicReference<>();
+        env.process().eventHandler().addListener(ServerTickStallEvent.class, event -> reportRef.set(event.getReport()));
+        var watchdog = new TickWatchdog(env.process().dispatcher(), 50, 0);
+        watchdog.start();
+        try {
+            watchdog.tickStart(System.nanoTime());
+            env.tick();
+            watchdog.tickEnd();
+        } finally {
+            watchdog.shutdown();
+        }
+
+        var report = reportRef.get();
+        assertNotNull(report, "Stall not reported");
+        assertTrue(report.duration() >= 50);
+        assertTrue(report.tickerStack().length > 0);
+        var stall = report.threads().stream()
+                .filter(thread -> thread.element() == entity)
+                .findFirst().orElseThrow();
+        assertNotNull(stall.partition());
+        assertTrue(stall.partition().elements().contains(entity));
+        assertTrue(stall.stackTrace().length > 0);
+        assertFalse(report.describe().isEmpty());
+    }
+
+    @Test
+    public void idle(Env env) {
+        var watchdog = new TickWatchdog(env.process().dispatcher(), 50, 0);
+        env.tick();
+        var threads = env.process().dispatcher().threads();
+        for (TickThread thread : threads) assertFalse(thread.isTicking());
+        assertTrue(watchdog.createReport(0).threads().isEmpty());
+    }
+}
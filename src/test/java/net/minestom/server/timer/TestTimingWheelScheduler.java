@@ -0,0 +1,88 @@
+package net.minestom.server.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTimingWheelScheduler {
+
+    @Test
+    public void tickOrder() {
+        // Delays crossing the wheel levels
+        Scheduler scheduler = Scheduler.newTimingWheelScheduler();
+        final int[] delays = {1, 2, 63, 64, 65, 127, 128, 4095, 4096, 4097, 10_000, 300_000};
+        AtomicInteger tick = new AtomicInteger();
+        List<Integer> executions = new ArrayList<>();
+        for (int delay : delays) {
+            scheduler.buildTask(() -> {
+                executions.add(tick.get());
+                assertEquals(delay, tick.get());
+            }).delay(TaskSchedule.tick(delay)).schedule();
+        }
+        while (tick.get() < 300_000) {
+            tick.incrementAndGet();
+            scheduler.processTick();
+        }
+        assertEquals(delays.length, executions.size());
+    }
+
+    @Test
+    public void repeat() {
+        Scheduler scheduler = Scheduler.newTimingWheelScheduler();
+        AtomicInteger counter = new AtomicInteger();
+        Task task = scheduler.scheduleTask(counter::incrementAndGet, TaskSchedule.tick(100), TaskSchedule.tick(100));
+        for (int i = 0; i < 1000; i++) scheduler.processTick();
+        assertEquals(10, counter.get());
+
+        task.cancel();
+        for (int i = 0; i < 1000; i++) scheduler.processTick();
+        assertEquals(10, counter.get());
+    }
+
+    @Test
+    public void idle() {
+        // Tasks scheduled after a long time without tasks
+        Scheduler scheduler = Scheduler.newTimingWheelScheduler();
+        for (int i = 0; i < 10_000; i++) scheduler.processTick();
+        AtomicBoolean result = new AtomicBoolean();
+        scheduler.scheduleTask(() -> result.set(true), TaskSchedule.tick(2), TaskSchedule.stop());
+        scheduler.processTick();
+        assertFalse(result.get());
+        scheduler.processTick();
+        assertTrue(result.get());
+    }
+
+    @Test
+    public void durationTask() throws InterruptedException {
+        Scheduler scheduler = Scheduler.newTimingWheelScheduler();
+        AtomicBoolean result = new AtomicBoolean(false);
+        scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.millis(200))
+                .schedule();
+        scheduler.process();
+        assertFalse(result.get());
+        Thread.sleep(300);
+        scheduler.process();
+        assertTrue(result.get());
+    }
+
+    @Test
+    public void parkTask() {
+        Scheduler scheduler = Scheduler.newTimingWheelScheduler();
+        AtomicInteger counter = new AtomicInteger();
+        Task task = scheduler.submitTask(() -> {
+            counter.incrementAndGet();
+            return TaskSchedule.park();
+        });
+        assertEquals(1, counter.get());
+        assertTrue(task.isParked());
+        task.unpark();
+        scheduler.process();
+        assertEquals(2, counter.get());
+    }
+}
@@ -2,6 +2,7 @@ package net.minestom.server.utils;
 
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.kyori.adventure.translation.GlobalTranslator;
 import net.kyori.adventure.translation.TranslationRegistry;
 import net.minestom.server.adventure.MinestomAdventure;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -25,6 +27,7 @@ public class TranslationIntegrationTest {
     static void translator() {
         final var translator = TranslationRegistry.create(Key.key("test.reg"));
         translator.register("test.key", MinestomAdventure.getDefaultLocale(), new MessageFormat("This is a test message", MinestomAdventure.getDefaultLocale()));
+        translator.register("test.key", Locale.FRENCH, new MessageFormat("Ceci est un message de test", Locale.FRENCH));
 
         GlobalTranslator.translator().addSource(translator);
     }
@@ -48,6 +51,25 @@ public class TranslationIntegrationTest {
         });
     }
 
+    @Test
+    public void testTranslationPerLocale(final Env env) {
+        final var instance = env.createFlatInstance();
+        final var defaultConnection = env.createConnection();
+        final var defaultPlayer = defaultConnection.connect(instance, new Pos(0, 40, 0)).join();
+        final var frenchConnection = env.createConnection();
+        final var frenchPlayer = frenchConnection.connect(instance, new Pos(0, 40, 0)).join();
+        frenchPlayer.setLocale(Locale.FRENCH);
+        final var defaultCollector = defaultConnection.trackIncoming(SystemChatPacket.class);
+        final var frenchCollector = frenchConnection.trackIncoming(SystemChatPacket.class);
+
+        MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION = true;
+        final var packet = new SystemChatPacket(Component.translatable("test.key"), false);
+        PacketUtils.sendGroupedPacket(List.of(defaultPlayer, frenchPlayer), packet);
+
+        defaultCollector.assertSingle(received -> assertEquals("This is a test message", PlainTextComponentSerializer.plainText().serialize(received.message())));
+        frenchCollector.assertSingle(received -> assertEquals("Ceci est un message de test", PlainTextComponentSerializer.plainText().serialize(received.message())));
+    }
+
     @Test
     public void testTranslationDisabled(final Env env) {
         final var instance = env.createFlatInstance();
@@ -0,0 +1,218 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.Tickable;
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.network.socket.LoopbackSocket;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.ThreadProvider;
+import net.minestom.server.thread.TickThread;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.minestom.server.network.NetworkBuffer.BYTE_ARRAY;
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ViewablePacketAggregatorIntegrationTest {
+
+    record IntPacket(int value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(INT, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 1;
+        }
+    }
+
+    record BytesPacket(byte[] value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(BYTE_ARRAY, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 2;
+        }
+    }
+
+    static final class TestViewable implements Viewable {
+        private final Set<Player> viewers;
+
+        TestViewable(Player... viewers) {
+            this.viewers = Set.of(viewers);
+        }
+
+        @Override
+        public boolean addViewer(@NotNull Player player) {
+            return false;
+        }
+
+        @Override
+        public boolean removeViewer(@NotNull Player player) {
+            return false;
+        }
+
+        @Override
+        public @NotNull Set<@NotNull Player> getViewers() {
+            return viewers;
+        }
+    }
+
+    @Test
+    public void largePacket(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        try (LoopbackSocket firstSocket = LoopbackSocket.open(); LoopbackSocket secondSocket = LoopbackSocket.open()) {
+            final PlayerSocketConnection firstConnection = firstSocket.connection(worker);
+            final PlayerSocketConnection secondConnection = secondSocket.connection(worker);
+            final Player first = new Player(UUID.randomUUID(), "first", firstConnection);
+            final Player second = new Player(UUID.randomUUID(), "second", secondConnection);
+            final Viewable viewable = new TestViewable(first, second);
+
+            byte[] bytes = new byte[300_000];
+            new Random(0).nextBytes(bytes);
+            final ServerPacket before = new IntPacket(1);
+            final ServerPacket large = new BytesPacket(bytes);
+            final ServerPacket after = new IntPacket(2);
+            // Larger than a storage buffer, sent directly after the packets appended before it
+            ViewablePacketAggregator.append(viewable, before, null);
+            ViewablePacketAggregator.append(viewable, large, first);
+            ViewablePacketAggregator.append(viewable, after, null);
+            ViewablePacketAggregator.flush();
+
+            final byte[] expectedFirst = frames(before, after);
+            assertArrayEquals(expectedFirst, firstSocket.receive(firstConnection, expectedFirst.length));
+            assertEquals(0, firstSocket.available());
+            final byte[] expectedSecond = frames(before, large, after);
+            assertArrayEquals(expectedSecond, secondSocket.receive(secondConnection, expectedSecond.length));
+            assertEquals(0, secondSocket.available());
+        }
+    }
+
+    @Test
+    public void mergeThreads(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+        try (LoopbackSocket firstSocket = LoopbackSocket.open(); LoopbackSocket secondSocket = LoopbackSocket.open()) {
+            final PlayerSocketConnection firstConnection = firstSocket.connection(worker);
+            final PlayerSocketConnection secondConnection = secondSocket.connection(worker);
+            final Player first = new Player(UUID.randomUUID(), "first", firstConnection);
+            final Player second = new Player(UUID.randomUUID(), "second", secondConnection);
+            final Viewable viewable = new TestViewable(first, second);
+
+            // Each thread ignores a player, the ignored ranges of the second storage are rebased in the merged buffer
+            final List<ServerPacket> packets = List.of(new IntPacket(1), new IntPacket(2), new IntPacket(3), new IntPacket(4));
+            AtomicReference<TickThread> firstThread = new AtomicReference<>();
+            AtomicReference<TickThread> secondThread = new AtomicReference<>();
+            Tickable firstElement = time -> {
+                firstThread.set(TickThread.current());
+                ViewablePacketAggregator.append(viewable, packets.get(0), null);
+                ViewablePacketAggregator.append(viewable, packets.get(1), first);
+            };
+            Tickable secondElement = time -> {
+                secondThread.set(TickThread.current());
+                ViewablePacketAggregator.append(viewable, packets.get(2), second);
+                ViewablePacketAggregator.append(viewable, packets.get(3), null);
+            };
+            Object firstPartition = new Object();
+            Object secondPartition = new Object();
+            dispatcher.createPartition(firstPartition);
+            dispatcher.createPartition(secondPartition);
+            dispatcher.updateElement(firstElement, firstPartition);
+            dispatcher.updateElement(secondElement, secondPartition);
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+            assertNotNull(firstThread.get());
+            assertNotEquals(firstThread.get(), secondThread.get());
+            ViewablePacketAggregator.flush(dispatcher);
+
+            // Order between the threads is not defined
+            final List<String> firstFrames = split(firstSocket.receive(firstConnection, frames(packets.get(0), packets.get(2), packets.get(3)).length));
+            assertEquals(sorted(packets.get(0), packets.get(2), packets.get(3)), firstFrames.stream().sorted().toList());
+            assertTrue(firstFrames.indexOf(hex(packets.get(2))) < firstFrames.indexOf(hex(packets.get(3))));
+            assertEquals(0, firstSocket.available());
+            final List<String> secondFrames = split(secondSocket.receive(secondConnection, frames(packets.get(0), packets.get(1), packets.get(3)).length));
+            assertEquals(sorted(packets.get(0), packets.get(1), packets.get(3)), secondFrames.stream().sorted().toList());
+            assertTrue(secondFrames.indexOf(hex(packets.get(0))) < secondFrames.indexOf(hex(packets.get(1))));
+            assertEquals(0, secondSocket.available());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelFlush(Env env) throws Exception {
+        final Worker worker = env.process().server().workers().get(0);
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 4);
+        try (LoopbackSocket socket = LoopbackSocket.open()) {
+            final PlayerSocketConnection connection = socket.connection(worker);
+            final Player player = new Player(UUID.randomUUID(), "player", connection);
+            // Enough viewables to be split between the threads
+            List<ServerPacket> packets = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                final ServerPacket packet = new IntPacket(i);
+                ViewablePacketAggregator.append(new TestViewable(player), packet, null);
+                packets.add(packet);
+            }
+            ViewablePacketAggregator.flush(dispatcher);
+
+            final ServerPacket[] expected = packets.toArray(ServerPacket[]::new);
+            final List<String> frames = split(socket.receive(connection, frames(expected).length));
+            assertEquals(sorted(expected), frames.stream().sorted().toList());
+            assertEquals(0, socket.available());
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    private static byte[] frames(ServerPacket... packets) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (ServerPacket packet : packets) output.writeBytes(frame(packet));
+        return output.toByteArray();
+    }
+
+    private static byte[] frame(ServerPacket packet) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            final ByteBuffer framed = PacketUtils.createFramedPacket(ConnectionState.PLAY, hold.get(), packet);
+            byte[] bytes = new byte[framed.remaining()];
+            framed.get(bytes);
+            return bytes;
+        }
+    }
+
+    private static String hex(ServerPacket packet) {
+        return HexFormat.of().formatHex(frame(packet));
+    }
+
+    private static List<String> sorted(ServerPacket... packets) {
+        return Arrays.stream(packets).map(ViewablePacketAggregatorIntegrationTest::hex).sorted().toList();
+    }
+
+    private static List<String> split(byte[] bytes) {
+        List<String> frames = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            final int length = Utils.readVarInt(buffer);
+            buffer.position(buffer.position() + length);
+            frames.add(HexFormat.of().formatHex(bytes, start, buffer.position()));
+        }
+        return frames;
+    }
+}